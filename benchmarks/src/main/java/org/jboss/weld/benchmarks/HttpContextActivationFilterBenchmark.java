@@ -0,0 +1,99 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.benchmarks;
+
+import java.lang.reflect.Proxy;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+import org.jboss.weld.servlet.spi.HttpContextActivationFilter;
+import org.jboss.weld.servlet.spi.helpers.PathPatternHttpContextActivationFilter;
+import org.jboss.weld.servlet.spi.helpers.RegexHttpContextActivationFilter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link HttpContextActivationFilter#accepts(HttpServletRequest)} of {@link RegexHttpContextActivationFilter} and
+ * {@link PathPatternHttpContextActivationFilter} configured to accept the same paths.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class HttpContextActivationFilterBenchmark {
+
+    private HttpContextActivationFilter regexFilter;
+
+    private HttpContextActivationFilter pathPatternFilter;
+
+    private HttpServletRequest acceptedRequest;
+
+    private HttpServletRequest rejectedRequest;
+
+    @Setup
+    public void setup() {
+        regexFilter = new RegexHttpContextActivationFilter(".*\\.(jsf|xhtml)|/rest/.*");
+        pathPatternFilter = new PathPatternHttpContextActivationFilter("*.jsf", "*.xhtml", "/rest/*");
+        acceptedRequest = request("/app/rest/orders/42/items", "/app");
+        rejectedRequest = request("/app/static/images/logo.png", "/app");
+    }
+
+    @Benchmark
+    public boolean regexAccepted() {
+        return regexFilter.accepts(acceptedRequest);
+    }
+
+    @Benchmark
+    public boolean regexRejected() {
+        return regexFilter.accepts(rejectedRequest);
+    }
+
+    @Benchmark
+    public boolean pathPatternAccepted() {
+        return pathPatternFilter.accepts(acceptedRequest);
+    }
+
+    @Benchmark
+    public boolean pathPatternRejected() {
+        return pathPatternFilter.accepts(rejectedRequest);
+    }
+
+    static HttpServletRequest request(String requestUri, String contextPath) {
+        return (HttpServletRequest) Proxy.newProxyInstance(HttpContextActivationFilterBenchmark.class.getClassLoader(),
+                new Class<?>[] { HttpServletRequest.class }, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "getRequestURI":
+                            return requestUri;
+                        case "getContextPath":
+                            return contextPath;
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+    }
+}
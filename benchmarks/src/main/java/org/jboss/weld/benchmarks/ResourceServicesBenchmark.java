@@ -0,0 +1,247 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.benchmarks;
+
+import java.beans.Introspector;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import javax.naming.Context;
+
+import jakarta.annotation.Resource;
+import jakarta.enterprise.inject.spi.Annotated;
+import jakarta.enterprise.inject.spi.Bean;
+import jakarta.enterprise.inject.spi.InjectionPoint;
+
+import org.jboss.weld.injection.spi.helpers.AbstractResourceServices;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the resource name resolution of {@link AbstractResourceServices}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ResourceServicesBenchmark {
+
+    private BenchmarkResourceServices resourceServices;
+
+    private Method setter;
+
+    private Method getter;
+
+    private InjectionPoint fieldInjectionPoint;
+
+    private InjectionPoint setterInjectionPoint;
+
+    private InjectionPoint namedInjectionPoint;
+
+    @Setup
+    public void setup() throws ReflectiveOperationException {
+        resourceServices = new BenchmarkResourceServices();
+        setter = Target.class.getMethod("setDataSource", Object.class);
+        getter = Target.class.getMethod("isEnabled");
+        fieldInjectionPoint = new SimpleInjectionPoint(Target.class.getDeclaredField("dataSource"));
+        setterInjectionPoint = new SimpleInjectionPoint(setter);
+        namedInjectionPoint = new SimpleInjectionPoint(Target.class.getDeclaredField("namedDataSource"));
+    }
+
+    @Benchmark
+    public String getPropertyNameSetter() {
+        return AbstractResourceServices.getPropertyName(setter);
+    }
+
+    @Benchmark
+    public String getPropertyNameGetter() {
+        return AbstractResourceServices.getPropertyName(getter);
+    }
+
+    @Benchmark
+    public String getPropertyNameSetterRegex() {
+        return getPropertyNameRegex(setter);
+    }
+
+    @Benchmark
+    public String getPropertyNameGetterRegex() {
+        return getPropertyNameRegex(getter);
+    }
+
+    @Benchmark
+    public String getResourceNameField() {
+        return resourceServices.getResourceName(fieldInjectionPoint);
+    }
+
+    @Benchmark
+    public String getResourceNameSetter() {
+        return resourceServices.getResourceName(setterInjectionPoint);
+    }
+
+    @Benchmark
+    public String getResourceNameNamed() {
+        return resourceServices.getResourceName(namedInjectionPoint);
+    }
+
+    @Benchmark
+    public String getResourceNameJndi() {
+        return resourceServices.getResourceName(null, "java:global/jdbc/DataSource");
+    }
+
+    /**
+     * The regex-based property name resolution used previously, kept as the baseline.
+     */
+    static String getPropertyNameRegex(Method method) {
+        String methodName = method.getName();
+        if (methodName.matches("^(set).*") && method.getParameterTypes().length == 1) {
+            return Introspector.decapitalize(methodName.substring(3));
+        } else if (methodName.matches("^(get).*") && method.getParameterTypes().length == 0) {
+            return Introspector.decapitalize(methodName.substring(3));
+        } else if (methodName.matches("^(is).*") && method.getParameterTypes().length == 0) {
+            return Introspector.decapitalize(methodName.substring(2));
+        } else {
+            return null;
+        }
+    }
+
+    public static class Target {
+
+        @Resource
+        Object dataSource;
+
+        @Resource(name = "jdbc/named")
+        Object namedDataSource;
+
+        @Resource
+        public void setDataSource(Object dataSource) {
+            this.dataSource = dataSource;
+        }
+
+        public boolean isEnabled() {
+            return true;
+        }
+    }
+
+    static class BenchmarkResourceServices extends AbstractResourceServices {
+
+        @Override
+        protected Context getContext() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        protected String getResourceName(InjectionPoint injectionPoint) {
+            return super.getResourceName(injectionPoint);
+        }
+
+        @Override
+        protected String getResourceName(String jndiName, String mappedName) {
+            return super.getResourceName(jndiName, mappedName);
+        }
+    }
+
+    static class SimpleInjectionPoint implements InjectionPoint, Annotated {
+
+        private final Member member;
+
+        SimpleInjectionPoint(Member member) {
+            this.member = member;
+        }
+
+        @Override
+        public Type getType() {
+            return Object.class;
+        }
+
+        @Override
+        public Set<Annotation> getQualifiers() {
+            return Collections.emptySet();
+        }
+
+        @Override
+        public Bean<?> getBean() {
+            return null;
+        }
+
+        @Override
+        public Member getMember() {
+            return member;
+        }
+
+        @Override
+        public Annotated getAnnotated() {
+            return this;
+        }
+
+        @Override
+        public boolean isDelegate() {
+            return false;
+        }
+
+        @Override
+        public boolean isTransient() {
+            return false;
+        }
+
+        @Override
+        public Type getBaseType() {
+            return Object.class;
+        }
+
+        @Override
+        public Set<Type> getTypeClosure() {
+            return Collections.<Type> singleton(Object.class);
+        }
+
+        @Override
+        public <T extends Annotation> T getAnnotation(Class<T> annotationType) {
+            return ((AnnotatedElement) member).getAnnotation(annotationType);
+        }
+
+        @Override
+        public <T extends Annotation> Set<T> getAnnotations(Class<T> annotationType) {
+            T annotation = getAnnotation(annotationType);
+            return annotation != null ? Collections.singleton(annotation) : Collections.<T> emptySet();
+        }
+
+        @Override
+        public Set<Annotation> getAnnotations() {
+            return Set.of(((AnnotatedElement) member).getAnnotations());
+        }
+
+        @Override
+        public boolean isAnnotationPresent(Class<? extends Annotation> annotationType) {
+            return getAnnotation(annotationType) != null;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.benchmarks;
+
+import java.security.Principal;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.jboss.weld.security.spi.SecurityServices;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the default {@link SecurityServices#getSecurityContextAssociator()} implementation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SecurityServicesBenchmark {
+
+    private SecurityServices securityServices;
+
+    private Consumer<Runnable> associator;
+
+    @Setup
+    public void setup() {
+        securityServices = new SecurityServices() {
+
+            @Override
+            public Principal getPrincipal() {
+                return null;
+            }
+
+            @Override
+            public void cleanup() {
+            }
+        };
+        associator = securityServices.getSecurityContextAssociator();
+    }
+
+    @Benchmark
+    public Consumer<Runnable> getSecurityContextAssociator() {
+        return securityServices.getSecurityContextAssociator();
+    }
+
+    @Benchmark
+    public void associateAndRun(Blackhole blackhole) {
+        associator.accept(() -> blackhole.consume(this));
+    }
+
+    @Benchmark
+    public void getAssociatorAndRun(Blackhole blackhole) {
+        securityServices.getSecurityContextAssociator().accept(() -> blackhole.consume(this));
+    }
+}
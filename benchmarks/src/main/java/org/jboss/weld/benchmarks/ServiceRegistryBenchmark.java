@@ -0,0 +1,99 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.weld.bootstrap.api.Service;
+import org.jboss.weld.bootstrap.api.ServiceRegistry;
+import org.jboss.weld.bootstrap.api.helpers.FreezableServiceRegistry;
+import org.jboss.weld.bootstrap.api.helpers.SimpleServiceRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link ServiceRegistry#get(Class)} of {@link SimpleServiceRegistry} and of a frozen
+ * {@link FreezableServiceRegistry}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ServiceRegistryBenchmark {
+
+    @Param({ "simple", "frozen" })
+    public String registry;
+
+    private ServiceRegistry serviceRegistry;
+
+    @Setup
+    public void setup() {
+        SimpleServiceRegistry simple = "frozen".equals(registry) ? new FreezableServiceRegistry()
+                : new SimpleServiceRegistry();
+        simple.add(Service1.class, new Service1());
+        simple.add(Service2.class, new Service2());
+        simple.add(Service3.class, new Service3());
+        simple.add(Service4.class, new Service4());
+        if (simple instanceof FreezableServiceRegistry) {
+            ((FreezableServiceRegistry) simple).freeze();
+        }
+        this.serviceRegistry = simple;
+    }
+
+    @Benchmark
+    public Service get() {
+        return serviceRegistry.get(Service3.class);
+    }
+
+    @Benchmark
+    public Service getMissing() {
+        return serviceRegistry.get(Service5.class);
+    }
+
+    public static class AbstractService implements Service {
+
+        @Override
+        public void cleanup() {
+        }
+    }
+
+    public static class Service1 extends AbstractService {
+    }
+
+    public static class Service2 extends AbstractService {
+    }
+
+    public static class Service3 extends AbstractService {
+    }
+
+    public static class Service4 extends AbstractService {
+    }
+
+    public static class Service5 extends AbstractService {
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.weld.bootstrap.api.Singleton;
+import org.jboss.weld.bootstrap.api.SingletonProvider;
+import org.jboss.weld.bootstrap.api.helpers.CachingRegistrySingletonProvider;
+import org.jboss.weld.bootstrap.api.helpers.IsolatedStaticSingletonProvider;
+import org.jboss.weld.bootstrap.api.helpers.RegistrySingletonProvider;
+import org.jboss.weld.bootstrap.api.helpers.TCCLSingletonProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link Singleton#get(String)} of the {@link SingletonProvider} implementations with several threads reading the
+ * same singleton.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class SingletonProviderBenchmark {
+
+    private static final String ID = "STATIC_INSTANCE";
+
+    @Param({ "isolated-static", "registry", "tccl", "caching-registry" })
+    public String provider;
+
+    private Singleton<Object> singleton;
+
+    @Setup
+    public void setup() {
+        SingletonProvider singletonProvider;
+        switch (provider) {
+            case "isolated-static":
+                singletonProvider = new IsolatedStaticSingletonProvider();
+                break;
+            case "registry":
+                singletonProvider = new RegistrySingletonProvider();
+                break;
+            case "tccl":
+                singletonProvider = new TCCLSingletonProvider();
+                break;
+            case "caching-registry":
+                singletonProvider = new CachingRegistrySingletonProvider();
+                break;
+            default:
+                throw new IllegalArgumentException(provider);
+        }
+        singleton = singletonProvider.create(Object.class);
+        singleton.set(ID, new Object());
+        singleton.set(ID + "_OTHER", new Object());
+    }
+
+    @Benchmark
+    public Object get() {
+        return singleton.get(ID);
+    }
+}
@@ -28,6 +28,7 @@ import org.jboss.weld.bootstrap.spi.BeanDeploymentArchive;
 import org.jboss.weld.bootstrap.spi.BeanDiscoveryMode;
 import org.jboss.weld.bootstrap.spi.BeansXml;
 import org.jboss.weld.bootstrap.spi.Deployment;
+import org.jboss.weld.bootstrap.spi.IncrementalDeployment;
 import org.jboss.weld.bootstrap.spi.Metadata;
 import org.jboss.weld.manager.api.WeldManager;
 
@@ -116,6 +117,32 @@ public interface Bootstrap {
      */
     Bootstrap endInitialization();
 
+    /**
+     * Redeploys the application incrementally. The container must be fully initialized with a previous revision of the same
+     * {@link IncrementalDeployment}, i.e. {@link #endInitialization()} must have been called.
+     *
+     * <ul>
+     * <li>Determines the added, removed and modified classes using {@link BeanDeploymentArchive#getClassChanges(String)}</li>
+     * <li>Undeploys the beans, observer methods, interceptors and decorators declared by removed and modified classes</li>
+     * <li>Deploys the beans declared by added and modified classes</li>
+     * <li>Validates the affected part of the bean graph, i.e. the deployed beans and the injection points which resolved to
+     * undeployed beans</li>
+     * </ul>
+     *
+     * If the changes cannot be applied incrementally, e.g. if an archive is not able to determine its changes or an extension
+     * observed a container lifecycle event for a modified class, an {@link IllegalStateException} is thrown and the integrator
+     * should {@link #shutdown()} the container and perform a full deployment.
+     *
+     * @param deployment the new revision of the deployment
+     * @return self
+     * @throws IllegalStateException if the container is not initialized or if the changes cannot be applied incrementally
+     * @throws UnsupportedOperationException if incremental redeployment is not supported
+     * @since 7.0
+     */
+    default Bootstrap redeploy(IncrementalDeployment deployment) {
+        throw new UnsupportedOperationException("Incremental redeployment is not supported");
+    }
+
     /**
      * Causes the container to clean up and shutdown
      *
@@ -16,6 +16,9 @@
  */
 package org.jboss.weld.bootstrap.api;
 
+import java.io.IOException;
+import java.io.InputStream;
+
 import jakarta.enterprise.context.NormalScope;
 import jakarta.enterprise.inject.Stereotype;
 import jakarta.enterprise.inject.spi.BeforeBeanDiscovery;
@@ -194,4 +197,60 @@ public interface CDI11Bootstrap extends Bootstrap {
      *
      */
     Bootstrap startContainer(String contextId, Environment environment, Deployment deployment);
+
+    /**
+     * Creates a snapshot of the result of bean discovery. This method may only be called after {@link #validateBeans()}. It is
+     * typically called at build time; the resulting snapshot is then persisted and used to start the container using
+     * {@link #startContainer(String, Environment, Deployment, DiscoverySnapshot)}.
+     *
+     * @return the discovery snapshot
+     * @throws IllegalStateException if the deployment was not validated yet
+     * @throws UnsupportedOperationException if discovery snapshots are not supported
+     * @since 7.0
+     */
+    default DiscoverySnapshot createDiscoverySnapshot() {
+        throw new UnsupportedOperationException("Discovery snapshots are not supported");
+    }
+
+    /**
+     * Reads a snapshot previously written using {@link DiscoverySnapshot#writeTo(java.io.OutputStream)}. The stream is not
+     * closed.
+     *
+     * @param in the input stream
+     * @return the discovery snapshot
+     * @throws IOException if an I/O error occurs
+     * @throws IllegalArgumentException if the stream does not contain a snapshot or if the snapshot version is not supported
+     * @throws UnsupportedOperationException if discovery snapshots are not supported
+     * @since 7.0
+     */
+    default DiscoverySnapshot readDiscoverySnapshot(InputStream in) throws IOException {
+        throw new UnsupportedOperationException("Discovery snapshots are not supported");
+    }
+
+    /**
+     * Creates the application container from a precomputed discovery snapshot. Unlike
+     * {@link #startContainer(String, Environment, Deployment)}, Weld does not perform type discovery - the bean classes, the
+     * parsed {@link BeansXml} and the observer and injection point metadata are taken from the snapshot. Neither
+     * {@link BeanDeploymentArchive#getBeanClasses()} nor {@link org.jboss.weld.resources.spi.ClassFileServices} are consulted.
+     * {@link #startExtensions(Iterable)} must not be called when starting the container from a snapshot.
+     *
+     * <p>
+     * The container initialization then continues as usual, i.e. {@link #startInitialization()}, {@link #deployBeans()},
+     * {@link #validateBeans()} and {@link #endInitialization()} must be called.
+     * </p>
+     *
+     * @param contextId the identifier of this application container instance
+     * @param environment the environment in use, by default {@link Environments#EE}
+     * @param deployment the Deployment to be booted
+     * @param snapshot the discovery snapshot
+     * @return self
+     * @throws IllegalStateException if not all the services required for the given environment are available
+     * @throws IllegalArgumentException if the snapshot does not match the deployment
+     * @throws UnsupportedOperationException if discovery snapshots are not supported
+     * @since 7.0
+     */
+    default Bootstrap startContainer(String contextId, Environment environment, Deployment deployment,
+            DiscoverySnapshot snapshot) {
+        throw new UnsupportedOperationException("Discovery snapshots are not supported");
+    }
 }
\ No newline at end of file
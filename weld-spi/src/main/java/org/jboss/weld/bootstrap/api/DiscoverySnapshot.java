@@ -0,0 +1,72 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.bootstrap.api;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Set;
+
+import org.jboss.weld.bootstrap.spi.BeanDeploymentArchive;
+import org.jboss.weld.bootstrap.spi.Deployment;
+
+/**
+ * A precomputed result of bean discovery which allows the container to be started without scanning the deployment.
+ *
+ * <p>
+ * A snapshot is created at build time using {@link CDI11Bootstrap#createDiscoverySnapshot()} and persisted using
+ * {@link #writeTo(OutputStream)}. At runtime, it is read using
+ * {@link CDI11Bootstrap#readDiscoverySnapshot(java.io.InputStream)} and passed to
+ * {@link CDI11Bootstrap#startContainer(String, Environment, Deployment, DiscoverySnapshot)}.
+ * </p>
+ *
+ * <p>
+ * A snapshot holds the bean classes of each {@link BeanDeploymentArchive}, the enabled alternatives, interceptors and
+ * decorators resolved from {@link org.jboss.weld.bootstrap.spi.BeansXml}, the bean defining annotations returned from
+ * {@link TypeDiscoveryConfiguration} and the metadata of observer methods and injection points. The binary format is
+ * versioned; a snapshot may only be read by a Weld version which supports {@link #getVersion()}.
+ * </p>
+ *
+ * @see CDI11Bootstrap#createDiscoverySnapshot()
+ * @since 7.0
+ */
+public interface DiscoverySnapshot {
+
+    /**
+     * Returns the version of the binary format of this snapshot.
+     *
+     * @return the format version
+     */
+    int getVersion();
+
+    /**
+     * Returns the identifiers of the bean deployment archives this snapshot was created for. The {@link Deployment} used to
+     * start the container from this snapshot must consist of bean deployment archives with the same identifiers.
+     *
+     * @return the identifiers of the bean deployment archives
+     * @see BeanDeploymentArchive#getId()
+     */
+    Set<String> getBeanDeploymentArchiveIds();
+
+    /**
+     * Writes this snapshot to the given output stream. The stream is not closed.
+     *
+     * @param out the output stream
+     * @throws IOException if an I/O error occurs
+     */
+    void writeTo(OutputStream out) throws IOException;
+
+}
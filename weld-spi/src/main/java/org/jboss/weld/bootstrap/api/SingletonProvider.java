@@ -17,6 +17,7 @@
 
 package org.jboss.weld.bootstrap.api;
 
+import org.jboss.weld.bootstrap.api.helpers.CachingRegistrySingletonProvider;
 import org.jboss.weld.bootstrap.api.helpers.IsolatedStaticSingletonProvider;
 import org.jboss.weld.bootstrap.api.helpers.RegistrySingletonProvider;
 import org.jboss.weld.bootstrap.api.helpers.TCCLSingletonProvider;
@@ -27,6 +28,7 @@ import org.jboss.weld.bootstrap.api.helpers.TCCLSingletonProvider;
  * @see IsolatedStaticSingletonProvider
  * @see TCCLSingletonProvider
  * @see RegistrySingletonProvider
+ * @see CachingRegistrySingletonProvider
  *
  * @author Sanjeeb.Sahoo@Sun.COM
  * @author Pete Muir
@@ -0,0 +1,107 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jboss.weld.bootstrap.api.helpers;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.jboss.weld.bootstrap.api.Singleton;
+import org.jboss.weld.bootstrap.api.SingletonProvider;
+
+/**
+ * A variant of {@link RegistrySingletonProvider} which keeps the most recently resolved singletons in a small direct-mapped
+ * cache. In the steady state, {@link Singleton#get(String)} is answered by reading a cache slot and no map lookup is
+ * performed.
+ * <p>
+ * Each cached value is invalidated by {@link Singleton#set(String, Object)} and {@link Singleton#clear(String)}, so a cleared
+ * singleton is never returned from the cache, even if the cache slot is concurrently repopulated by a reader.
+ *
+ * @see RegistrySingletonProvider
+ */
+public class CachingRegistrySingletonProvider extends SingletonProvider {
+
+    @Override
+    public <T> Singleton<T> create(Class<? extends T> type) {
+        return new CachingRegistrySingleton<T>();
+    }
+
+    private static class CachingRegistrySingleton<T> implements Singleton<T> {
+
+        // Must be a power of two
+        private static final int CACHE_SIZE = 8;
+
+        private final Map<String, Holder<T>> store = new ConcurrentHashMap<String, Holder<T>>();
+
+        private final AtomicReferenceArray<Holder<T>> cache = new AtomicReferenceArray<Holder<T>>(CACHE_SIZE);
+
+        public T get(String id) {
+            int slot = slot(id);
+            Holder<T> holder = cache.get(slot);
+            if (holder != null && holder.valid && holder.id.equals(id)) {
+                return holder.value;
+            }
+            holder = store.get(id);
+            if (holder == null) {
+                throw new IllegalStateException("Singleton not set for " + id);
+            }
+            cache.set(slot, holder);
+            return holder.value;
+        }
+
+        public void set(String id, T object) {
+            invalidate(store.put(id, new Holder<T>(id, object)));
+        }
+
+        public void clear(String id) {
+            invalidate(store.remove(id));
+        }
+
+        public boolean isSet(String id) {
+            return store.containsKey(id);
+        }
+
+        private void invalidate(Holder<T> holder) {
+            if (holder != null) {
+                holder.valid = false;
+                cache.compareAndSet(slot(holder.id), holder, null);
+            }
+        }
+
+        private static int slot(String id) {
+            return id.hashCode() & (CACHE_SIZE - 1);
+        }
+    }
+
+    /**
+     * An immutable id-value pair. A holder is invalidated once it is replaced or removed from the store.
+     */
+    private static final class Holder<T> {
+
+        private final String id;
+
+        private final T value;
+
+        private volatile boolean valid = true;
+
+        private Holder(String id, T value) {
+            this.id = id;
+            this.value = value;
+        }
+    }
+}
@@ -20,6 +20,7 @@ import org.jboss.weld.bootstrap.api.Bootstrap;
 import org.jboss.weld.bootstrap.api.Environment;
 import org.jboss.weld.bootstrap.spi.BeanDeploymentArchive;
 import org.jboss.weld.bootstrap.spi.Deployment;
+import org.jboss.weld.bootstrap.spi.IncrementalDeployment;
 import org.jboss.weld.manager.api.WeldManager;
 
 /**
@@ -45,6 +46,11 @@ public abstract class ForwardingBootstrap implements Bootstrap {
         return delegate().startContainer(environment, deployment);
     }
 
+    @Override
+    public Bootstrap redeploy(IncrementalDeployment deployment) {
+        return delegate().redeploy(deployment);
+    }
+
     public void shutdown() {
         delegate().shutdown();
     }
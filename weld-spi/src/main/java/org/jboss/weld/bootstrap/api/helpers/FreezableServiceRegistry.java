@@ -0,0 +1,183 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.bootstrap.api.helpers;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Map.Entry;
+import java.util.Set;
+
+import org.jboss.weld.bootstrap.api.Service;
+import org.jboss.weld.bootstrap.api.ServiceRegistry;
+
+/**
+ * A {@link ServiceRegistry} which behaves like {@link SimpleServiceRegistry} during bootstrap and which can be frozen once
+ * bootstrap is finished.
+ * <p>
+ * Freezing copies all registered services into an immutable, identity-keyed lookup table. The table is safely published so
+ * that {@link #get(Class)}, {@link #getRequired(Class)} and {@link #contains(Class)} may be called concurrently from any
+ * number of threads without synchronization and without allocating. Any attempt to modify a frozen registry results in an
+ * {@link UnsupportedOperationException}.
+ * <p>
+ * The registry is frozen either explicitly by calling {@link #freeze()} or implicitly when Weld calls
+ * {@link #cleanupAfterBoot()}.
+ *
+ * @see SimpleServiceRegistry
+ */
+public class FreezableServiceRegistry extends SimpleServiceRegistry {
+
+    private volatile ServiceTable table;
+
+    /**
+     * Initialize a new instance of {@link FreezableServiceRegistry}
+     */
+    public FreezableServiceRegistry() {
+        super();
+    }
+
+    /**
+     * Freezes this registry. Subsequent lookups are served from an immutable lookup table and any attempt to modify the
+     * registry results in an {@link UnsupportedOperationException}. Calling this method on a frozen registry has no effect.
+     */
+    public synchronized void freeze() {
+        if (table == null) {
+            table = new ServiceTable(super.entrySet());
+        }
+    }
+
+    /**
+     * Returns true if this registry has been frozen.
+     *
+     * @return true if frozen, false otherwise
+     */
+    public boolean isFrozen() {
+        return table != null;
+    }
+
+    @Override
+    public <S extends Service> void add(Class<S> type, S service) {
+        checkNotFrozen();
+        super.add(type, service);
+    }
+
+    @Override
+    public <S extends Service> S addIfAbsent(Class<S> type, S service) {
+        checkNotFrozen();
+        return super.addIfAbsent(type, service);
+    }
+
+    @Override
+    public void addAll(Collection<Entry<Class<? extends Service>, Service>> services) {
+        checkNotFrozen();
+        super.addAll(services);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <S extends Service> S get(Class<S> type) {
+        ServiceTable table = this.table;
+        if (table != null) {
+            return (S) table.get(type);
+        }
+        return super.get(type);
+    }
+
+    @Override
+    public <S extends Service> boolean contains(Class<S> type) {
+        ServiceTable table = this.table;
+        if (table != null) {
+            return table.get(type) != null;
+        }
+        return super.contains(type);
+    }
+
+    @Override
+    public Set<Entry<Class<? extends Service>, Service>> entrySet() {
+        if (table != null) {
+            return Collections.unmodifiableSet(super.entrySet());
+        }
+        return super.entrySet();
+    }
+
+    @Override
+    public Iterator<Service> iterator() {
+        if (table != null) {
+            return Collections.unmodifiableCollection(get().values()).iterator();
+        }
+        return super.iterator();
+    }
+
+    @Override
+    public void cleanupAfterBoot() {
+        super.cleanupAfterBoot();
+        freeze();
+    }
+
+    private void checkNotFrozen() {
+        if (table != null) {
+            throw new UnsupportedOperationException("This service registry is frozen");
+        }
+    }
+
+    /**
+     * Immutable open-addressing hash table keyed by service type identity. All fields are final and the table is published
+     * through a volatile field, which guarantees that a fully initialized table is visible to all threads.
+     */
+    private static final class ServiceTable {
+
+        private final Class<?>[] keys;
+
+        private final Service[] values;
+
+        private final int mask;
+
+        ServiceTable(Set<Entry<Class<? extends Service>, Service>> entries) {
+            // Keep the load factor at or below 0.5 so that probe sequences stay short
+            int capacity = Integer.highestOneBit(Math.max(entries.size(), 1) * 2 - 1) << 1;
+            this.keys = new Class<?>[capacity];
+            this.values = new Service[capacity];
+            this.mask = capacity - 1;
+            for (Entry<Class<? extends Service>, Service> entry : entries) {
+                int index = indexFor(entry.getKey());
+                while (keys[index] != null) {
+                    index = (index + 1) & mask;
+                }
+                keys[index] = entry.getKey();
+                values[index] = entry.getValue();
+            }
+        }
+
+        Service get(Class<?> type) {
+            int index = indexFor(type);
+            Class<?> key;
+            while ((key = keys[index]) != null) {
+                if (key == type) {
+                    return values[index];
+                }
+                index = (index + 1) & mask;
+            }
+            return null;
+        }
+
+        private int indexFor(Class<?> type) {
+            int hash = System.identityHashCode(type);
+            return (hash ^ (hash >>> 16)) & mask;
+        }
+    }
+
+}
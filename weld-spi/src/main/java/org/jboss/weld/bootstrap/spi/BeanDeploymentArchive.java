@@ -18,6 +18,7 @@ package org.jboss.weld.bootstrap.spi;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Spliterator;
 
 import org.jboss.weld.bootstrap.api.ServiceRegistry;
 import org.jboss.weld.ejb.spi.EjbDescriptor;
@@ -98,6 +99,60 @@ public interface BeanDeploymentArchive {
         return getBeanClasses();
     }
 
+    /**
+     * Returns a {@link Spliterator} over the classes returned from {@link #getBeanClasses()}.
+     *
+     * <p>
+     * An integrator may override this method in order to let Weld start processing the classes before the archive is fully
+     * scanned and to let Weld split the processing across multiple threads. The returned spliterator should provide a
+     * reasonable {@link Spliterator#estimateSize() size estimate} and should support {@link Spliterator#trySplit() splitting}.
+     * The spliterator must not report duplicate elements.
+     * </p>
+     *
+     * <p>
+     * The default implementation returns the spliterator of the collection returned from {@link #getBeanClasses()}.
+     * </p>
+     *
+     * @return a spliterator over the bean classes
+     * @since 7.0
+     */
+    default Spliterator<String> getBeanClassesSpliterator() {
+        return getBeanClasses().spliterator();
+    }
+
+    /**
+     * Returns a {@link Spliterator} over the classes returned from {@link #getKnownClasses()}.
+     *
+     * <p>
+     * The default implementation returns the spliterator of the collection returned from {@link #getKnownClasses()}.
+     * </p>
+     *
+     * @return a spliterator over all classes found in the bean deployment archive
+     * @see #getBeanClassesSpliterator()
+     * @since 7.0
+     */
+    default Spliterator<String> getKnownClassesSpliterator() {
+        return getKnownClasses().spliterator();
+    }
+
+    /**
+     * Returns the classes of this bean deployment archive which were added, removed or modified since the given revision of
+     * the {@link IncrementalDeployment}.
+     *
+     * <p>
+     * The default implementation returns null, i.e. the changes are unknown and Weld treats all the classes of the archive as
+     * modified.
+     * </p>
+     *
+     * @param previousDeploymentId the identifier of the previous revision of the deployment
+     * @return the changes or null if the changes cannot be determined
+     * @see IncrementalDeployment
+     * @since 7.0
+     */
+    default ClassChanges getClassChanges(String previousDeploymentId) {
+        return null;
+    }
+
     /**
      * Get any deployment descriptors in the bean deployment archive.
      *
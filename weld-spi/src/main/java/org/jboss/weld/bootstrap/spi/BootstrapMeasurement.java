@@ -0,0 +1,53 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.bootstrap.spi;
+
+import org.jboss.weld.bootstrap.spi.helpers.BootstrapStopwatch;
+
+/**
+ * Resources consumed by a bootstrap phase or by processing of a bean deployment archive within a phase. CPU time and allocated
+ * bytes are measured for the thread which started and finished the phase, resp. the archive processing. Work delegated to
+ * other threads, e.g. to {@link org.jboss.weld.manager.api.ExecutorServices#getTaskExecutor()}, is not included.
+ *
+ * @see BootstrapPhaseListener
+ * @see BootstrapStopwatch
+ * @since 7.0
+ */
+public interface BootstrapMeasurement {
+
+    /**
+     * Returns the elapsed wall-clock time.
+     *
+     * @return the elapsed time in nanoseconds
+     */
+    long getWallTime();
+
+    /**
+     * Returns the CPU time consumed by the thread.
+     *
+     * @return the CPU time in nanoseconds or -1 if CPU time measurement is not supported or enabled
+     */
+    long getCpuTime();
+
+    /**
+     * Returns the amount of memory allocated by the thread.
+     *
+     * @return the allocated bytes or -1 if allocation measurement is not supported or enabled
+     */
+    long getAllocatedBytes();
+
+}
@@ -0,0 +1,115 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.bootstrap.spi;
+
+import org.jboss.weld.bootstrap.api.Bootstrap;
+import org.jboss.weld.bootstrap.api.Service;
+import org.jboss.weld.bootstrap.spi.helpers.JfrBootstrapPhaseListener;
+
+/**
+ * An optional service which is notified when Weld starts and finishes a {@link Bootstrap} phase and when it starts and
+ * finishes processing a {@link BeanDeploymentArchive} within a phase. An integrator may use this service to find out how long
+ * each phase takes and which bean deployment archives are expensive to process.
+ *
+ * <p>
+ * {@link BootstrapPhaseListener} is a per-deployment service, i.e. it should be registered in {@link Deployment#getServices()}.
+ * </p>
+ *
+ * <p>
+ * Bean deployment archives may be processed in parallel. Therefore, the archive callbacks may be invoked concurrently from
+ * different threads. The start and finish callbacks for a given phase, resp. a given archive within a phase, are always invoked
+ * from the same thread.
+ * </p>
+ *
+ * @see BootstrapMeasurement
+ * @see JfrBootstrapPhaseListener
+ * @since 7.0
+ */
+public interface BootstrapPhaseListener extends Service {
+
+    /**
+     * Bootstrap phases
+     */
+    public enum Phase {
+        /**
+         * {@link Bootstrap#startContainer(org.jboss.weld.bootstrap.api.Environment, Deployment)}
+         */
+        START_CONTAINER,
+        /**
+         * {@link Bootstrap#startInitialization()}
+         */
+        START_INITIALIZATION,
+        /**
+         * {@link Bootstrap#deployBeans()}
+         */
+        DEPLOY_BEANS,
+        /**
+         * {@link Bootstrap#validateBeans()}
+         */
+        VALIDATE_BEANS,
+        /**
+         * {@link Bootstrap#endInitialization()}
+         */
+        END_INITIALIZATION,
+        /**
+         * {@link Bootstrap#redeploy(IncrementalDeployment)}
+         */
+        REDEPLOY
+    }
+
+    /**
+     * Called when Weld starts the given phase.
+     *
+     * @param phase the phase
+     */
+    default void phaseStarted(Phase phase) {
+    }
+
+    /**
+     * Called when Weld finishes the given phase. Not called if the phase fails.
+     *
+     * @param phase the phase
+     * @param measurement the resources consumed by the phase
+     */
+    default void phaseFinished(Phase phase, BootstrapMeasurement measurement) {
+    }
+
+    /**
+     * Called when Weld starts processing the given bean deployment archive within the given phase.
+     *
+     * @param phase the phase
+     * @param archive the bean deployment archive
+     */
+    default void archiveStarted(Phase phase, BeanDeploymentArchive archive) {
+    }
+
+    /**
+     * Called when Weld finishes processing the given bean deployment archive within the given phase. Not called if the
+     * processing fails.
+     *
+     * @param phase the phase
+     * @param archive the bean deployment archive
+     * @param measurement the resources consumed while processing the archive
+     */
+    default void archiveFinished(Phase phase, BeanDeploymentArchive archive, BootstrapMeasurement measurement) {
+    }
+
+    @Override
+    default void cleanup() {
+    }
+
+}
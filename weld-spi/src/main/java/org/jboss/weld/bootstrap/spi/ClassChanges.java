@@ -0,0 +1,63 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.bootstrap.spi;
+
+import java.util.Collection;
+
+import org.jboss.weld.bootstrap.spi.helpers.ClassChangesImpl;
+
+/**
+ * Describes the classes of a {@link BeanDeploymentArchive} which were added, removed or modified since a previous revision of
+ * an {@link IncrementalDeployment}.
+ *
+ * @see BeanDeploymentArchive#getClassChanges(String)
+ * @see ClassChangesImpl
+ * @since 7.0
+ */
+public interface ClassChanges {
+
+    /**
+     * Returns the classes which were added to the bean deployment archive.
+     *
+     * @return the FQCNs of the added classes, empty if no classes were added
+     */
+    Collection<String> getAddedClasses();
+
+    /**
+     * Returns the classes which were removed from the bean deployment archive.
+     *
+     * @return the FQCNs of the removed classes, empty if no classes were removed
+     */
+    Collection<String> getRemovedClasses();
+
+    /**
+     * Returns the classes whose class file changed.
+     *
+     * @return the FQCNs of the modified classes, empty if no classes were modified
+     */
+    Collection<String> getModifiedClasses();
+
+    /**
+     * Indicates whether there are no changes at all.
+     *
+     * @return true if no classes were added, removed or modified, false otherwise
+     */
+    default boolean isEmpty() {
+        return getAddedClasses().isEmpty() && getRemovedClasses().isEmpty() && getModifiedClasses().isEmpty();
+    }
+
+}
@@ -0,0 +1,51 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.bootstrap.spi;
+
+import org.jboss.weld.bootstrap.api.Bootstrap;
+
+/**
+ * A {@link Deployment} which is able to describe how it differs from a previous revision of the same deployment. Weld uses this
+ * information to redeploy the application incrementally, i.e. to rediscover and revalidate only the part of the bean graph
+ * affected by the changes.
+ *
+ * <p>
+ * Each revision of the deployment is identified by {@link #getDeploymentId()}. Upon
+ * {@link Bootstrap#redeploy(IncrementalDeployment)}, Weld calls {@link BeanDeploymentArchive#getClassChanges(String)} with the
+ * identifier of the revision which is currently deployed, for each bean deployment archive returned from
+ * {@link #getBeanDeploymentArchives()}.
+ * </p>
+ *
+ * <p>
+ * A bean deployment archive whose {@link BeanDeploymentArchive#getId()} is not known to the current revision is considered to
+ * be added. A bean deployment archive of the current revision which is no longer returned from
+ * {@link #getBeanDeploymentArchives()} is considered to be removed.
+ * </p>
+ *
+ * @see Bootstrap#redeploy(IncrementalDeployment)
+ * @since 7.0
+ */
+public interface IncrementalDeployment extends Deployment {
+
+    /**
+     * Get a string which uniquely identifies this revision of the deployment.
+     *
+     * @return the identifier of this revision of the deployment
+     */
+    String getDeploymentId();
+
+}
@@ -0,0 +1,693 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.bootstrap.spi.helpers;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.jboss.weld.bootstrap.api.Bootstrap;
+import org.jboss.weld.bootstrap.spi.BeanDiscoveryMode;
+import org.jboss.weld.bootstrap.spi.BeansXml;
+import org.jboss.weld.bootstrap.spi.ClassAvailableActivation;
+import org.jboss.weld.bootstrap.spi.Filter;
+import org.jboss.weld.bootstrap.spi.Metadata;
+import org.jboss.weld.bootstrap.spi.Scanning;
+import org.jboss.weld.bootstrap.spi.SystemPropertyActivation;
+import org.jboss.weld.bootstrap.spi.WeldFilter;
+
+/**
+ * A cache of parsed {@link BeansXml} descriptors keyed by the hash of the descriptor content. Archives with identical
+ * descriptors share a single immutable parsed representation; the {@link BeansXml} returned from {@link #parse(URL)} differs
+ * only in {@link BeansXml#getUrl()}. Note that the {@link Metadata#getLocation() location} of the shared metadata refers to
+ * the descriptor which was parsed first.
+ *
+ * <p>
+ * Descriptors which are empty or which only consist of the <code>beans</code> element with the
+ * <code>bean-discovery-mode</code> attribute are recognized without invoking the XML parser. Other descriptors are parsed
+ * using {@link Bootstrap#parse(URL)} and, if a cache directory is specified, stored on disk so that subsequent boots do not
+ * need to parse them again.
+ * </p>
+ *
+ * <p>
+ * This class is thread-safe.
+ * </p>
+ */
+public class BeansXmlCache {
+
+    private static final int MAGIC = 0x57425843;
+
+    private static final int VERSION = 1;
+
+    private static final String CACHE_FILE_SUFFIX = ".beansxml";
+
+    private static final String DEFAULT_MODE = "default";
+
+    private static final String BEAN_DISCOVERY_MODE = "bean-discovery-mode";
+
+    private static final String VERSION_ATTRIBUTE = "version";
+
+    private static final Pattern XML_DECLARATION = Pattern.compile("^\\s*<\\?xml[^<>]*\\?>");
+
+    private static final Pattern COMMENT = Pattern.compile("<!--.*?-->", Pattern.DOTALL);
+
+    private static final Pattern BEANS_WITHOUT_CONTENT = Pattern.compile("^<beans(\\s[^<>]*?)?\\s*(?:/>|>\\s*</beans\\s*>)$");
+
+    private static final Pattern ATTRIBUTE = Pattern.compile("([\\w:.-]+)\\s*=\\s*(?:\"([^\"]*)\"|'([^']*)')");
+
+    private final Bootstrap bootstrap;
+
+    private final Path cacheDirectory;
+
+    private final ConcurrentMap<String, CachedBeansXml> cache;
+
+    /**
+     * Creates a new in-memory cache.
+     *
+     * @param bootstrap the bootstrap used to parse descriptors
+     */
+    public BeansXmlCache(Bootstrap bootstrap) {
+        this(bootstrap, null);
+    }
+
+    /**
+     * Creates a new cache which stores parsed descriptors in the given directory.
+     *
+     * @param bootstrap the bootstrap used to parse descriptors
+     * @param cacheDirectory the directory parsed descriptors are stored in, may be null
+     */
+    public BeansXmlCache(Bootstrap bootstrap, Path cacheDirectory) {
+        this.bootstrap = bootstrap;
+        this.cacheDirectory = cacheDirectory;
+        this.cache = new ConcurrentHashMap<String, CachedBeansXml>();
+    }
+
+    /**
+     * Parse the specified URL as a beans.xml file.
+     *
+     * @param url the url to parse
+     * @return the BeansXml data structure which represents the URL
+     * @throws IllegalArgumentException if the URL cannot be opened
+     * @see Bootstrap#parse(URL)
+     */
+    public BeansXml parse(URL url) {
+        return parse(url, null);
+    }
+
+    /**
+     * Parse the specified URL as a beans.xml file with a parameter allowing to specify what bean discovery mode should be
+     * used when beans.xml is an empty file.
+     *
+     * @param url the url to parse
+     * @param emptyBeansXmlDiscoveryMode Discovery mode to be used when beans.xml is an empty file, null for the default
+     * @return the BeansXml data structure which represents the URL
+     * @throws IllegalArgumentException if the URL cannot be opened
+     * @see Bootstrap#parse(URL, BeanDiscoveryMode)
+     */
+    public BeansXml parse(URL url, BeanDiscoveryMode emptyBeansXmlDiscoveryMode) {
+        byte[] content = read(url);
+        String key = hash(content) + "-"
+                + (emptyBeansXmlDiscoveryMode != null ? emptyBeansXmlDiscoveryMode.name().toLowerCase(Locale.ROOT)
+                        : DEFAULT_MODE);
+        CachedBeansXml beansXml = cache.get(key);
+        if (beansXml == null) {
+            beansXml = load(key, url, content, emptyBeansXmlDiscoveryMode);
+            CachedBeansXml previous = cache.putIfAbsent(key, beansXml);
+            if (previous != null) {
+                beansXml = previous;
+            }
+        }
+        return beansXml.withUrl(url);
+    }
+
+    /**
+     * Removes all the descriptors cached in memory. The descriptors stored on disk are not removed.
+     */
+    public void clear() {
+        cache.clear();
+    }
+
+    private CachedBeansXml load(String key, URL url, byte[] content, BeanDiscoveryMode emptyBeansXmlDiscoveryMode) {
+        CachedBeansXml beansXml = parseWithoutContent(content, emptyBeansXmlDiscoveryMode);
+        if (beansXml != null) {
+            return beansXml;
+        }
+        beansXml = readCacheFile(key);
+        if (beansXml != null) {
+            return beansXml;
+        }
+        BeansXml parsed = emptyBeansXmlDiscoveryMode != null ? bootstrap.parse(url, emptyBeansXmlDiscoveryMode)
+                : bootstrap.parse(url);
+        beansXml = CachedBeansXml.copyOf(parsed);
+        writeCacheFile(key, beansXml);
+        return beansXml;
+    }
+
+    /**
+     * Recognizes an empty descriptor and a descriptor which only consists of the <code>beans</code> element with the
+     * <code>bean-discovery-mode</code> attribute. Returns null if the descriptor needs to be parsed.
+     */
+    static CachedBeansXml parseWithoutContent(byte[] content, BeanDiscoveryMode emptyBeansXmlDiscoveryMode) {
+        if (content.length == 0) {
+            return emptyBeansXmlDiscoveryMode != null ? new CachedBeansXml(emptyBeansXmlDiscoveryMode, null) : null;
+        }
+        String xml = new String(content, StandardCharsets.UTF_8);
+        if (xml.charAt(0) == '\uFEFF') {
+            // Byte order mark, with or without the XML declaration
+            xml = xml.substring(1);
+        }
+        xml = XML_DECLARATION.matcher(xml).replaceFirst("");
+        xml = COMMENT.matcher(xml).replaceAll("").trim();
+        Matcher beans = BEANS_WITHOUT_CONTENT.matcher(xml);
+        if (!beans.matches()) {
+            return null;
+        }
+        Map<String, String> attributes = new HashMap<String, String>();
+        if (beans.group(1) != null) {
+            Matcher attribute = ATTRIBUTE.matcher(beans.group(1));
+            int end = 0;
+            while (attribute.find()) {
+                if (!beans.group(1).substring(end, attribute.start()).trim().isEmpty()) {
+                    return null;
+                }
+                String name = attribute.group(1);
+                if (!name.equals(BEAN_DISCOVERY_MODE) && !name.equals(VERSION_ATTRIBUTE) && !name.equals("xmlns")
+                        && !name.startsWith("xmlns:") && !name.equals("xsi:schemaLocation")) {
+                    return null;
+                }
+                attributes.put(name, attribute.group(2) != null ? attribute.group(2) : attribute.group(3));
+                end = attribute.end();
+            }
+            if (!beans.group(1).substring(end).trim().isEmpty()) {
+                return null;
+            }
+        }
+        String mode = attributes.get(BEAN_DISCOVERY_MODE);
+        if (mode == null) {
+            // The default discovery mode depends on the version - let the parser decide
+            return null;
+        }
+        try {
+            return new CachedBeansXml(BeanDiscoveryMode.valueOf(mode.trim().toUpperCase(Locale.ROOT)),
+                    attributes.get(VERSION_ATTRIBUTE));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private CachedBeansXml readCacheFile(String key) {
+        if (cacheDirectory == null) {
+            return null;
+        }
+        Path file = cacheDirectory.resolve(key + CACHE_FILE_SUFFIX);
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                return null;
+            }
+            return CachedBeansXml.read(in);
+        } catch (IOException | RuntimeException e) {
+            // Corrupted cache file - parse the descriptor again
+            return null;
+        }
+    }
+
+    private void writeCacheFile(String key, CachedBeansXml beansXml) {
+        if (cacheDirectory == null) {
+            return;
+        }
+        Path tmp = null;
+        try {
+            Files.createDirectories(cacheDirectory);
+            tmp = Files.createTempFile(cacheDirectory, key, ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                beansXml.write(out);
+            }
+            Files.move(tmp, cacheDirectory.resolve(key + CACHE_FILE_SUFFIX), StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException | RuntimeException e) {
+            // The cache file is optional - ignore
+            if (tmp != null) {
+                try {
+                    Files.deleteIfExists(tmp);
+                } catch (IOException ignored) {
+                    // ignored
+                }
+            }
+        }
+    }
+
+    private static byte[] read(URL url) {
+        try (InputStream in = url.openStream()) {
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Unable to read " + url, e);
+        }
+    }
+
+    private static String hash(byte[] content) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        StringBuilder builder = new StringBuilder(64);
+        for (byte b : digest.digest(content)) {
+            builder.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return builder.toString();
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    /**
+     * Immutable {@link BeansXml}. All the instances created by {@link #withUrl(URL)} share the parsed metadata.
+     */
+    static final class CachedBeansXml implements BeansXml {
+
+        private final URL url;
+
+        private final List<Metadata<String>> enabledAlternativeStereotypes;
+
+        private final List<Metadata<String>> enabledAlternativeClasses;
+
+        private final List<Metadata<String>> enabledDecorators;
+
+        private final List<Metadata<String>> enabledInterceptors;
+
+        private final Scanning scanning;
+
+        private final BeanDiscoveryMode beanDiscoveryMode;
+
+        private final String version;
+
+        private final boolean trimmed;
+
+        CachedBeansXml(BeanDiscoveryMode beanDiscoveryMode, String version) {
+            this(null, Collections.<Metadata<String>> emptyList(), Collections.<Metadata<String>> emptyList(),
+                    Collections.<Metadata<String>> emptyList(), Collections.<Metadata<String>> emptyList(),
+                    Scanning.EMPTY_SCANNING, beanDiscoveryMode, version, false);
+        }
+
+        private CachedBeansXml(URL url, List<Metadata<String>> enabledAlternativeStereotypes,
+                List<Metadata<String>> enabledAlternativeClasses, List<Metadata<String>> enabledDecorators,
+                List<Metadata<String>> enabledInterceptors, Scanning scanning, BeanDiscoveryMode beanDiscoveryMode,
+                String version, boolean trimmed) {
+            this.url = url;
+            this.enabledAlternativeStereotypes = enabledAlternativeStereotypes;
+            this.enabledAlternativeClasses = enabledAlternativeClasses;
+            this.enabledDecorators = enabledDecorators;
+            this.enabledInterceptors = enabledInterceptors;
+            this.scanning = scanning;
+            this.beanDiscoveryMode = beanDiscoveryMode;
+            this.version = version;
+            this.trimmed = trimmed;
+        }
+
+        static CachedBeansXml copyOf(BeansXml beansXml) {
+            Scanning scanning = beansXml.getScanning();
+            if (scanning != null && (!scanning.getIncludes().isEmpty() || !scanning.getExcludes().isEmpty())) {
+                scanning = new CachedScanning(copyFilters(scanning.getIncludes()), copyFilters(scanning.getExcludes()));
+            } else {
+                scanning = Scanning.EMPTY_SCANNING;
+            }
+            return new CachedBeansXml(null, copyStrings(beansXml.getEnabledAlternativeStereotypes()),
+                    copyStrings(beansXml.getEnabledAlternativeClasses()), copyStrings(beansXml.getEnabledDecorators()),
+                    copyStrings(beansXml.getEnabledInterceptors()), scanning, beansXml.getBeanDiscoveryMode(),
+                    beansXml.getVersion(), beansXml.isTrimmed());
+        }
+
+        CachedBeansXml withUrl(URL url) {
+            return new CachedBeansXml(url, enabledAlternativeStereotypes, enabledAlternativeClasses, enabledDecorators,
+                    enabledInterceptors, scanning, beanDiscoveryMode, version, trimmed);
+        }
+
+        @Override
+        public List<Metadata<String>> getEnabledAlternativeStereotypes() {
+            return enabledAlternativeStereotypes;
+        }
+
+        @Override
+        public List<Metadata<String>> getEnabledAlternativeClasses() {
+            return enabledAlternativeClasses;
+        }
+
+        @Override
+        public List<Metadata<String>> getEnabledDecorators() {
+            return enabledDecorators;
+        }
+
+        @Override
+        public List<Metadata<String>> getEnabledInterceptors() {
+            return enabledInterceptors;
+        }
+
+        @Override
+        public Scanning getScanning() {
+            return scanning;
+        }
+
+        @Override
+        public URL getUrl() {
+            return url;
+        }
+
+        @Override
+        public BeanDiscoveryMode getBeanDiscoveryMode() {
+            return beanDiscoveryMode;
+        }
+
+        @Override
+        public String getVersion() {
+            return version;
+        }
+
+        @Override
+        public boolean isTrimmed() {
+            return trimmed;
+        }
+
+        @Override
+        public String toString() {
+            return url != null ? url.toString() : "beans.xml (" + beanDiscoveryMode + ")";
+        }
+
+        void write(DataOutputStream out) throws IOException {
+            out.writeByte(beanDiscoveryMode.ordinal());
+            writeString(out, version);
+            out.writeBoolean(trimmed);
+            writeStrings(out, enabledAlternativeStereotypes);
+            writeStrings(out, enabledAlternativeClasses);
+            writeStrings(out, enabledDecorators);
+            writeStrings(out, enabledInterceptors);
+            writeFilters(out, scanning.getIncludes());
+            writeFilters(out, scanning.getExcludes());
+        }
+
+        static CachedBeansXml read(DataInputStream in) throws IOException {
+            BeanDiscoveryMode beanDiscoveryMode = BeanDiscoveryMode.values()[in.readByte()];
+            String version = readString(in);
+            boolean trimmed = in.readBoolean();
+            List<Metadata<String>> enabledAlternativeStereotypes = readStrings(in);
+            List<Metadata<String>> enabledAlternativeClasses = readStrings(in);
+            List<Metadata<String>> enabledDecorators = readStrings(in);
+            List<Metadata<String>> enabledInterceptors = readStrings(in);
+            List<Metadata<Filter>> includes = readFilters(in);
+            List<Metadata<Filter>> excludes = readFilters(in);
+            Scanning scanning = includes.isEmpty() && excludes.isEmpty() ? Scanning.EMPTY_SCANNING
+                    : new CachedScanning(includes, excludes);
+            return new CachedBeansXml(null, enabledAlternativeStereotypes, enabledAlternativeClasses, enabledDecorators,
+                    enabledInterceptors, scanning, beanDiscoveryMode, version, trimmed);
+        }
+
+        private static List<Metadata<String>> copyStrings(List<Metadata<String>> metadata) {
+            if (metadata.isEmpty()) {
+                return Collections.emptyList();
+            }
+            List<Metadata<String>> copy = new ArrayList<Metadata<String>>(metadata.size());
+            for (Metadata<String> item : metadata) {
+                copy.add(new MetadataImpl<String>(item.getValue(), item.getLocation()));
+            }
+            return Collections.unmodifiableList(copy);
+        }
+
+        private static void writeStrings(DataOutputStream out, List<Metadata<String>> metadata) throws IOException {
+            out.writeInt(metadata.size());
+            for (Metadata<String> item : metadata) {
+                writeString(out, item.getValue());
+                writeString(out, item.getLocation());
+            }
+        }
+
+        private static List<Metadata<String>> readStrings(DataInputStream in) throws IOException {
+            int size = in.readInt();
+            if (size == 0) {
+                return Collections.emptyList();
+            }
+            List<Metadata<String>> metadata = new ArrayList<Metadata<String>>(size);
+            for (int i = 0; i < size; i++) {
+                String value = readString(in);
+                metadata.add(new MetadataImpl<String>(value, readString(in)));
+            }
+            return Collections.unmodifiableList(metadata);
+        }
+
+        private static List<Metadata<Filter>> copyFilters(Collection<Metadata<Filter>> filters) {
+            List<Metadata<Filter>> copy = new ArrayList<Metadata<Filter>>(filters.size());
+            for (Metadata<Filter> filter : filters) {
+                Filter value = filter.getValue();
+                List<Metadata<SystemPropertyActivation>> systemPropertyActivations = new ArrayList<>();
+                if (value.getSystemPropertyActivations() != null) {
+                    for (Metadata<SystemPropertyActivation> activation : value.getSystemPropertyActivations()) {
+                        systemPropertyActivations.add(new MetadataImpl<SystemPropertyActivation>(
+                                new CachedSystemPropertyActivation(activation.getValue().getName(),
+                                        activation.getValue().getValue()),
+                                activation.getLocation()));
+                    }
+                }
+                List<Metadata<ClassAvailableActivation>> classAvailableActivations = new ArrayList<>();
+                if (value.getClassAvailableActivations() != null) {
+                    for (Metadata<ClassAvailableActivation> activation : value.getClassAvailableActivations()) {
+                        classAvailableActivations.add(new MetadataImpl<ClassAvailableActivation>(
+                                new CachedClassAvailableActivation(activation.getValue().getClassName(),
+                                        activation.getValue().isInverted()),
+                                activation.getLocation()));
+                    }
+                }
+                copy.add(new MetadataImpl<Filter>(createFilter(value.getName(),
+                        value instanceof WeldFilter ? ((WeldFilter) value).getPattern() : null, value instanceof WeldFilter,
+                        systemPropertyActivations, classAvailableActivations), filter.getLocation()));
+            }
+            return Collections.unmodifiableList(copy);
+        }
+
+        private static void writeFilters(DataOutputStream out, Collection<Metadata<Filter>> filters) throws IOException {
+            out.writeInt(filters.size());
+            for (Metadata<Filter> filter : filters) {
+                Filter value = filter.getValue();
+                writeString(out, filter.getLocation());
+                out.writeBoolean(value instanceof WeldFilter);
+                writeString(out, value.getName());
+                writeString(out, value instanceof WeldFilter ? ((WeldFilter) value).getPattern() : null);
+                out.writeInt(value.getSystemPropertyActivations().size());
+                for (Metadata<SystemPropertyActivation> activation : value.getSystemPropertyActivations()) {
+                    writeString(out, activation.getLocation());
+                    writeString(out, activation.getValue().getName());
+                    writeString(out, activation.getValue().getValue());
+                }
+                out.writeInt(value.getClassAvailableActivations().size());
+                for (Metadata<ClassAvailableActivation> activation : value.getClassAvailableActivations()) {
+                    writeString(out, activation.getLocation());
+                    writeString(out, activation.getValue().getClassName());
+                    out.writeBoolean(activation.getValue().isInverted());
+                }
+            }
+        }
+
+        private static List<Metadata<Filter>> readFilters(DataInputStream in) throws IOException {
+            int size = in.readInt();
+            List<Metadata<Filter>> filters = new ArrayList<Metadata<Filter>>(size);
+            for (int i = 0; i < size; i++) {
+                String location = readString(in);
+                boolean weldFilter = in.readBoolean();
+                String name = readString(in);
+                String pattern = readString(in);
+                int systemPropertyActivationsSize = in.readInt();
+                List<Metadata<SystemPropertyActivation>> systemPropertyActivations = new ArrayList<>(
+                        systemPropertyActivationsSize);
+                for (int j = 0; j < systemPropertyActivationsSize; j++) {
+                    String activationLocation = readString(in);
+                    String activationName = readString(in);
+                    systemPropertyActivations.add(new MetadataImpl<SystemPropertyActivation>(
+                            new CachedSystemPropertyActivation(activationName, readString(in)), activationLocation));
+                }
+                int classAvailableActivationsSize = in.readInt();
+                List<Metadata<ClassAvailableActivation>> classAvailableActivations = new ArrayList<>(
+                        classAvailableActivationsSize);
+                for (int j = 0; j < classAvailableActivationsSize; j++) {
+                    String activationLocation = readString(in);
+                    String className = readString(in);
+                    classAvailableActivations.add(new MetadataImpl<ClassAvailableActivation>(
+                            new CachedClassAvailableActivation(className, in.readBoolean()), activationLocation));
+                }
+                Filter filter = createFilter(name, pattern, weldFilter, systemPropertyActivations, classAvailableActivations);
+                filters.add(new MetadataImpl<Filter>(filter, location));
+            }
+            return Collections.unmodifiableList(filters);
+        }
+
+        private static Filter createFilter(String name, String pattern, boolean weldFilter,
+                List<Metadata<SystemPropertyActivation>> systemPropertyActivations,
+                List<Metadata<ClassAvailableActivation>> classAvailableActivations) {
+            if (weldFilter) {
+                return new CachedWeldFilter(name, pattern, Collections.unmodifiableList(systemPropertyActivations),
+                        Collections.unmodifiableList(classAvailableActivations));
+            }
+            return new CachedFilter(name, Collections.unmodifiableList(systemPropertyActivations),
+                    Collections.unmodifiableList(classAvailableActivations));
+        }
+    }
+
+    private static final class CachedScanning implements Scanning {
+
+        private final Collection<Metadata<Filter>> includes;
+
+        private final Collection<Metadata<Filter>> excludes;
+
+        private CachedScanning(Collection<Metadata<Filter>> includes, Collection<Metadata<Filter>> excludes) {
+            this.includes = includes;
+            this.excludes = excludes;
+        }
+
+        @Override
+        public Collection<Metadata<Filter>> getIncludes() {
+            return includes;
+        }
+
+        @Override
+        public Collection<Metadata<Filter>> getExcludes() {
+            return excludes;
+        }
+    }
+
+    private static class CachedFilter implements Filter {
+
+        private final String name;
+
+        private final Collection<Metadata<SystemPropertyActivation>> systemPropertyActivations;
+
+        private final Collection<Metadata<ClassAvailableActivation>> classAvailableActivations;
+
+        private CachedFilter(String name, Collection<Metadata<SystemPropertyActivation>> systemPropertyActivations,
+                Collection<Metadata<ClassAvailableActivation>> classAvailableActivations) {
+            this.name = name;
+            this.systemPropertyActivations = systemPropertyActivations;
+            this.classAvailableActivations = classAvailableActivations;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public Collection<Metadata<SystemPropertyActivation>> getSystemPropertyActivations() {
+            return systemPropertyActivations;
+        }
+
+        @Override
+        public Collection<Metadata<ClassAvailableActivation>> getClassAvailableActivations() {
+            return classAvailableActivations;
+        }
+    }
+
+    private static final class CachedWeldFilter extends CachedFilter implements WeldFilter {
+
+        private final String pattern;
+
+        private CachedWeldFilter(String name, String pattern,
+                Collection<Metadata<SystemPropertyActivation>> systemPropertyActivations,
+                Collection<Metadata<ClassAvailableActivation>> classAvailableActivations) {
+            super(name, systemPropertyActivations, classAvailableActivations);
+            this.pattern = pattern;
+        }
+
+        @Override
+        public String getPattern() {
+            return pattern;
+        }
+    }
+
+    private static final class CachedSystemPropertyActivation implements SystemPropertyActivation {
+
+        private final String name;
+
+        private final String value;
+
+        private CachedSystemPropertyActivation(String name, String value) {
+            this.name = name;
+            this.value = value;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public String getValue() {
+            return value;
+        }
+    }
+
+    private static final class CachedClassAvailableActivation implements ClassAvailableActivation {
+
+        private final String className;
+
+        private final boolean inverted;
+
+        private CachedClassAvailableActivation(String className, boolean inverted) {
+            this.className = className;
+            this.inverted = inverted;
+        }
+
+        @Override
+        public String getClassName() {
+            return className;
+        }
+
+        @Override
+        public boolean isInverted() {
+            return inverted;
+        }
+    }
+}
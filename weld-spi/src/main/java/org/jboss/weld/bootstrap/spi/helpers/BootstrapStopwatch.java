@@ -0,0 +1,132 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.bootstrap.spi.helpers;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+import org.jboss.weld.bootstrap.spi.BootstrapMeasurement;
+
+/**
+ * Measures the wall-clock time, CPU time and allocated bytes of the current thread between {@link #start()} and
+ * {@link #stop()}. A stopwatch must be started and stopped by the same thread.
+ *
+ * <pre>
+ * BootstrapStopwatch stopwatch = BootstrapStopwatch.start();
+ * // do the work
+ * listener.phaseFinished(phase, stopwatch.stop());
+ * </pre>
+ */
+public final class BootstrapStopwatch {
+
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+
+    private static final com.sun.management.ThreadMXBean EXTENDED_THREADS = THREADS instanceof com.sun.management.ThreadMXBean
+            ? (com.sun.management.ThreadMXBean) THREADS
+            : null;
+
+    private final long wallTime;
+
+    private final long cpuTime;
+
+    private final long allocatedBytes;
+
+    private BootstrapStopwatch() {
+        this.wallTime = System.nanoTime();
+        this.cpuTime = cpuTime();
+        this.allocatedBytes = allocatedBytes();
+    }
+
+    /**
+     * Starts a new stopwatch for the current thread.
+     *
+     * @return the started stopwatch
+     */
+    public static BootstrapStopwatch start() {
+        return new BootstrapStopwatch();
+    }
+
+    /**
+     * Returns the resources consumed by the current thread since this stopwatch was started.
+     *
+     * @return the measurement
+     */
+    public BootstrapMeasurement stop() {
+        long wallTime = System.nanoTime() - this.wallTime;
+        long cpuTime = this.cpuTime < 0 ? -1 : cpuTime() - this.cpuTime;
+        long allocatedBytes = this.allocatedBytes < 0 ? -1 : allocatedBytes() - this.allocatedBytes;
+        return new Measurement(wallTime, cpuTime, allocatedBytes);
+    }
+
+    private static long cpuTime() {
+        try {
+            if (THREADS.isCurrentThreadCpuTimeSupported() && THREADS.isThreadCpuTimeEnabled()) {
+                return THREADS.getCurrentThreadCpuTime();
+            }
+        } catch (UnsupportedOperationException e) {
+            // Not supported by the JVM
+        }
+        return -1;
+    }
+
+    private static long allocatedBytes() {
+        try {
+            if (EXTENDED_THREADS != null && EXTENDED_THREADS.isThreadAllocatedMemorySupported()
+                    && EXTENDED_THREADS.isThreadAllocatedMemoryEnabled()) {
+                return EXTENDED_THREADS.getCurrentThreadAllocatedBytes();
+            }
+        } catch (UnsupportedOperationException e) {
+            // Not supported by the JVM
+        }
+        return -1;
+    }
+
+    private static final class Measurement implements BootstrapMeasurement {
+
+        private final long wallTime;
+
+        private final long cpuTime;
+
+        private final long allocatedBytes;
+
+        private Measurement(long wallTime, long cpuTime, long allocatedBytes) {
+            this.wallTime = wallTime;
+            this.cpuTime = cpuTime;
+            this.allocatedBytes = allocatedBytes;
+        }
+
+        @Override
+        public long getWallTime() {
+            return wallTime;
+        }
+
+        @Override
+        public long getCpuTime() {
+            return cpuTime;
+        }
+
+        @Override
+        public long getAllocatedBytes() {
+            return allocatedBytes;
+        }
+
+        @Override
+        public String toString() {
+            return "wall time: " + wallTime + " ns, CPU time: " + cpuTime + " ns, allocated: " + allocatedBytes + " bytes";
+        }
+    }
+}
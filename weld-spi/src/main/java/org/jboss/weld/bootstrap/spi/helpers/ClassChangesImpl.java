@@ -0,0 +1,76 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.bootstrap.spi.helpers;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+
+import org.jboss.weld.bootstrap.spi.ClassChanges;
+
+/**
+ * An immutable implementation of {@link ClassChanges}
+ */
+public class ClassChangesImpl implements ClassChanges {
+
+    /**
+     * {@link ClassChanges} with no added, removed or modified classes
+     */
+    public static final ClassChanges NO_CHANGES = new ClassChangesImpl(Collections.<String> emptySet(),
+            Collections.<String> emptySet(), Collections.<String> emptySet());
+
+    private final Collection<String> addedClasses;
+
+    private final Collection<String> removedClasses;
+
+    private final Collection<String> modifiedClasses;
+
+    /**
+     * Creates new instance of this class
+     *
+     * @param addedClasses the FQCNs of the added classes
+     * @param removedClasses the FQCNs of the removed classes
+     * @param modifiedClasses the FQCNs of the modified classes
+     */
+    public ClassChangesImpl(Collection<String> addedClasses, Collection<String> removedClasses,
+            Collection<String> modifiedClasses) {
+        this.addedClasses = Collections.unmodifiableSet(new LinkedHashSet<String>(addedClasses));
+        this.removedClasses = Collections.unmodifiableSet(new LinkedHashSet<String>(removedClasses));
+        this.modifiedClasses = Collections.unmodifiableSet(new LinkedHashSet<String>(modifiedClasses));
+    }
+
+    @Override
+    public Collection<String> getAddedClasses() {
+        return addedClasses;
+    }
+
+    @Override
+    public Collection<String> getRemovedClasses() {
+        return removedClasses;
+    }
+
+    @Override
+    public Collection<String> getModifiedClasses() {
+        return modifiedClasses;
+    }
+
+    @Override
+    public String toString() {
+        return "added: " + addedClasses + ", removed: " + removedClasses + ", modified: " + modifiedClasses;
+    }
+
+}
@@ -0,0 +1,305 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.bootstrap.spi.helpers;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+
+import org.jboss.weld.bootstrap.spi.ClassAvailableActivation;
+import org.jboss.weld.bootstrap.spi.Filter;
+import org.jboss.weld.bootstrap.spi.Metadata;
+import org.jboss.weld.bootstrap.spi.Scanning;
+import org.jboss.weld.bootstrap.spi.SystemPropertyActivation;
+import org.jboss.weld.bootstrap.spi.WeldFilter;
+import org.jboss.weld.resources.spi.ResourceLoader;
+
+/**
+ * A compiled form of the {@link Scanning} include and exclude filters. The activation conditions of each filter are evaluated
+ * once, when the filters are compiled. The names of the active filters are merged into a single prefix trie, so that
+ * {@link #accept(String)} checks a class name against all of them in a single pass regardless of the number of filters. The
+ * patterns of the active {@link WeldFilter}s are compiled separately, since merging them into a single regular expression
+ * would break back-references and group boundaries.
+ *
+ * <p>
+ * The filter names are interpreted as follows:
+ * </p>
+ * <ul>
+ * <li><code>com.acme.Foo</code> matches the class <code>com.acme.Foo</code>,</li>
+ * <li><code>com.acme.*</code> matches all the classes in the package <code>com.acme</code>,</li>
+ * <li><code>com.acme.**</code> matches all the classes in the package <code>com.acme</code> and its subpackages.</li>
+ * </ul>
+ *
+ * <p>
+ * A {@link SystemPropertyActivation} is satisfied if the system property is set, or if it is set to the given value when a
+ * value is specified. A name or value prefixed with <code>!</code> negates the condition. A
+ * {@link ClassAvailableActivation} is satisfied if the class can be loaded by the given {@link ResourceLoader}, or if it
+ * cannot be loaded when the activation is inverted.
+ * </p>
+ *
+ * <p>
+ * This class is immutable and thread-safe. Since the activation conditions are not re-evaluated, a new instance needs to be
+ * compiled if the system properties or the available classes change.
+ * </p>
+ *
+ * @see Scanning
+ */
+public final class CompiledScanning {
+
+    private static final CompiledScanning ACCEPT_ALL = new CompiledScanning(null, null);
+
+    private static final String PACKAGE_SUFFIX = ".*";
+
+    private static final String SUBPACKAGES_SUFFIX = ".**";
+
+    private static final char NEGATION = '!';
+
+    private final FilterMatcher includes;
+
+    private final FilterMatcher excludes;
+
+    private CompiledScanning(FilterMatcher includes, FilterMatcher excludes) {
+        this.includes = includes;
+        this.excludes = excludes;
+    }
+
+    /**
+     * Compiles the given scanning filters.
+     *
+     * @param scanning the scanning filters, may be null
+     * @param resourceLoader the resource loader used to evaluate the {@link ClassAvailableActivation}s
+     * @return the compiled scanning filters
+     */
+    public static CompiledScanning compile(Scanning scanning, ResourceLoader resourceLoader) {
+        if (scanning == null || (scanning.getIncludes().isEmpty() && scanning.getExcludes().isEmpty())) {
+            return ACCEPT_ALL;
+        }
+        FilterMatcher includes = FilterMatcher.compile(scanning.getIncludes(), resourceLoader);
+        FilterMatcher excludes = FilterMatcher.compile(scanning.getExcludes(), resourceLoader);
+        if (includes == null && excludes == null) {
+            return ACCEPT_ALL;
+        }
+        return new CompiledScanning(includes, excludes);
+    }
+
+    /**
+     * Determines whether the given class should be scanned, i.e. whether it matches an active include filter (if there is
+     * any) and does not match any active exclude filter.
+     *
+     * @param className the fully qualified class name
+     * @return <code>true</code> if the class should be scanned, <code>false</code> otherwise
+     */
+    public boolean accept(String className) {
+        if (includes != null && !includes.matches(className)) {
+            return false;
+        }
+        return excludes == null || !excludes.matches(className);
+    }
+
+    /**
+     * @return <code>true</code> if there is no active filter, i.e. all the classes are accepted
+     */
+    public boolean isAcceptAll() {
+        return includes == null && excludes == null;
+    }
+
+    static boolean isActive(Filter filter, ResourceLoader resourceLoader) {
+        Collection<Metadata<SystemPropertyActivation>> systemPropertyActivations = filter.getSystemPropertyActivations();
+        if (systemPropertyActivations != null) {
+            for (Metadata<SystemPropertyActivation> activation : systemPropertyActivations) {
+                if (!isActive(activation.getValue())) {
+                    return false;
+                }
+            }
+        }
+        Collection<Metadata<ClassAvailableActivation>> classAvailableActivations = filter.getClassAvailableActivations();
+        if (classAvailableActivations != null) {
+            for (Metadata<ClassAvailableActivation> activation : classAvailableActivations) {
+                if (isClassAvailable(activation.getValue().getClassName(), resourceLoader) == activation.getValue()
+                        .isInverted()) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static boolean isActive(SystemPropertyActivation activation) {
+        String name = activation.getName();
+        boolean inverted = false;
+        if (!name.isEmpty() && name.charAt(0) == NEGATION) {
+            inverted = true;
+            name = name.substring(1);
+        }
+        String actualValue = System.getProperty(name);
+        String value = activation.getValue();
+        boolean active;
+        if (value == null) {
+            active = actualValue != null;
+        } else if (!value.isEmpty() && value.charAt(0) == NEGATION) {
+            active = !value.substring(1).equals(actualValue);
+        } else {
+            active = value.equals(actualValue);
+        }
+        return active != inverted;
+    }
+
+    private static boolean isClassAvailable(String className, ResourceLoader resourceLoader) {
+        try {
+            return resourceLoader.classForName(className) != null;
+        } catch (RuntimeException | LinkageError e) {
+            return false;
+        }
+    }
+
+    /**
+     * Matches class names against a set of filters.
+     */
+    private static final class FilterMatcher {
+
+        private final Node root;
+
+        private final Pattern[] patterns;
+
+        private FilterMatcher(Node root, Pattern[] patterns) {
+            this.root = root;
+            this.patterns = patterns;
+        }
+
+        /**
+         * @return the matcher for the active filters or null if there is no active filter
+         */
+        static FilterMatcher compile(Collection<Metadata<Filter>> filters, ResourceLoader resourceLoader) {
+            NodeBuilder root = new NodeBuilder();
+            boolean names = false;
+            List<Pattern> patterns = new ArrayList<Pattern>();
+            for (Metadata<Filter> metadata : filters) {
+                Filter filter = metadata.getValue();
+                if (!isActive(filter, resourceLoader)) {
+                    continue;
+                }
+                if (filter instanceof WeldFilter && ((WeldFilter) filter).getPattern() != null) {
+                    patterns.add(Pattern.compile(((WeldFilter) filter).getPattern()));
+                } else if (filter.getName() != null) {
+                    root.add(filter.getName());
+                    names = true;
+                }
+            }
+            if (!names && patterns.isEmpty()) {
+                return null;
+            }
+            return new FilterMatcher(names ? root.build() : null, patterns.toArray(new Pattern[patterns.size()]));
+        }
+
+        boolean matches(String className) {
+            if (root != null && root.matches(className)) {
+                return true;
+            }
+            for (Pattern pattern : patterns) {
+                if (pattern.matcher(className).matches()) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    private static final class NodeBuilder {
+
+        private final Map<Character, NodeBuilder> children = new TreeMap<Character, NodeBuilder>();
+
+        private byte flags;
+
+        void add(String name) {
+            byte flag;
+            if (name.endsWith(SUBPACKAGES_SUFFIX)) {
+                flag = Node.SUBPACKAGES;
+                name = name.substring(0, name.length() - SUBPACKAGES_SUFFIX.length());
+            } else if (name.endsWith(PACKAGE_SUFFIX)) {
+                flag = Node.PACKAGE;
+                name = name.substring(0, name.length() - PACKAGE_SUFFIX.length());
+            } else {
+                flag = Node.CLASS;
+            }
+            NodeBuilder node = this;
+            for (int i = 0; i < name.length(); i++) {
+                node = node.children.computeIfAbsent(name.charAt(i), c -> new NodeBuilder());
+            }
+            node.flags |= flag;
+        }
+
+        Node build() {
+            char[] keys = new char[children.size()];
+            Node[] nodes = new Node[children.size()];
+            int i = 0;
+            for (Map.Entry<Character, NodeBuilder> entry : children.entrySet()) {
+                keys[i] = entry.getKey();
+                nodes[i++] = entry.getValue().build();
+            }
+            return new Node(keys, nodes, flags);
+        }
+    }
+
+    /**
+     * An immutable trie node. The children are sorted by their key.
+     */
+    private static final class Node {
+
+        static final byte CLASS = 1;
+
+        static final byte PACKAGE = 2;
+
+        static final byte SUBPACKAGES = 4;
+
+        private final char[] keys;
+
+        private final Node[] children;
+
+        private final byte flags;
+
+        private Node(char[] keys, Node[] children, byte flags) {
+            this.keys = keys;
+            this.children = children;
+            this.flags = flags;
+        }
+
+        boolean matches(String className) {
+            Node node = this;
+            int length = className.length();
+            for (int i = 0; i < length; i++) {
+                if (node.flags != 0 && className.charAt(i) == '.') {
+                    if ((node.flags & SUBPACKAGES) != 0) {
+                        return true;
+                    }
+                    if ((node.flags & PACKAGE) != 0 && className.indexOf('.', i + 1) < 0) {
+                        return true;
+                    }
+                }
+                int index = Arrays.binarySearch(node.keys, className.charAt(i));
+                if (index < 0) {
+                    return false;
+                }
+                node = node.children[index];
+            }
+            return (node.flags & CLASS) != 0;
+        }
+    }
+}
@@ -17,10 +17,12 @@
 package org.jboss.weld.bootstrap.spi.helpers;
 
 import java.util.Collection;
+import java.util.Spliterator;
 
 import org.jboss.weld.bootstrap.api.ServiceRegistry;
 import org.jboss.weld.bootstrap.spi.BeanDeploymentArchive;
 import org.jboss.weld.bootstrap.spi.BeansXml;
+import org.jboss.weld.bootstrap.spi.ClassChanges;
 import org.jboss.weld.ejb.spi.EjbDescriptor;
 
 /**
@@ -45,6 +47,21 @@ public abstract class ForwardingBeanDeploymentArchive implements BeanDeploymentA
         return delegate().getKnownClasses();
     }
 
+    @Override
+    public Spliterator<String> getBeanClassesSpliterator() {
+        return delegate().getBeanClassesSpliterator();
+    }
+
+    @Override
+    public Spliterator<String> getKnownClassesSpliterator() {
+        return delegate().getKnownClassesSpliterator();
+    }
+
+    @Override
+    public ClassChanges getClassChanges(String previousDeploymentId) {
+        return delegate().getClassChanges(previousDeploymentId);
+    }
+
     @Override
     public Collection<Class<?>> getLoadedBeanClasses() {
         return delegate().getLoadedBeanClasses();
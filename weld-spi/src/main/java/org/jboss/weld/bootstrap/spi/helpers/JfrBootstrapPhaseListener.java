@@ -0,0 +1,200 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.bootstrap.spi.helpers;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jboss.weld.bootstrap.spi.BeanDeploymentArchive;
+import org.jboss.weld.bootstrap.spi.BootstrapMeasurement;
+import org.jboss.weld.bootstrap.spi.BootstrapPhaseListener;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * A {@link BootstrapPhaseListener} which emits a JDK Flight Recorder event for each bootstrap phase and for each bean
+ * deployment archive processed within a phase. There is a separate event type for each {@link Phase}, all of them in the
+ * "Weld / Bootstrap" category.
+ */
+public class JfrBootstrapPhaseListener implements BootstrapPhaseListener {
+
+    private final Map<Phase, PhaseEvent> phaseEvents = new ConcurrentHashMap<Phase, PhaseEvent>();
+
+    private final Map<ArchiveKey, ArchiveEvent> archiveEvents = new ConcurrentHashMap<ArchiveKey, ArchiveEvent>();
+
+    @Override
+    public void phaseStarted(Phase phase) {
+        PhaseEvent event = createPhaseEvent(phase);
+        if (event.isEnabled()) {
+            event.begin();
+            phaseEvents.put(phase, event);
+        }
+    }
+
+    @Override
+    public void phaseFinished(Phase phase, BootstrapMeasurement measurement) {
+        PhaseEvent event = phaseEvents.remove(phase);
+        if (event != null) {
+            event.end();
+            if (event.shouldCommit()) {
+                event.cpuTime = measurement.getCpuTime();
+                event.allocatedBytes = measurement.getAllocatedBytes();
+                event.commit();
+            }
+        }
+    }
+
+    @Override
+    public void archiveStarted(Phase phase, BeanDeploymentArchive archive) {
+        ArchiveEvent event = new ArchiveEvent();
+        if (event.isEnabled()) {
+            event.begin();
+            archiveEvents.put(new ArchiveKey(phase, archive.getId()), event);
+        }
+    }
+
+    @Override
+    public void archiveFinished(Phase phase, BeanDeploymentArchive archive, BootstrapMeasurement measurement) {
+        ArchiveEvent event = archiveEvents.remove(new ArchiveKey(phase, archive.getId()));
+        if (event != null) {
+            event.end();
+            if (event.shouldCommit()) {
+                event.phase = phase.name();
+                event.archiveId = archive.getId();
+                event.cpuTime = measurement.getCpuTime();
+                event.allocatedBytes = measurement.getAllocatedBytes();
+                event.commit();
+            }
+        }
+    }
+
+    @Override
+    public void cleanup() {
+        phaseEvents.clear();
+        archiveEvents.clear();
+    }
+
+    private static PhaseEvent createPhaseEvent(Phase phase) {
+        switch (phase) {
+            case START_CONTAINER:
+                return new StartContainerEvent();
+            case START_INITIALIZATION:
+                return new StartInitializationEvent();
+            case DEPLOY_BEANS:
+                return new DeployBeansEvent();
+            case VALIDATE_BEANS:
+                return new ValidateBeansEvent();
+            case END_INITIALIZATION:
+                return new EndInitializationEvent();
+            case REDEPLOY:
+                return new RedeployEvent();
+            default:
+                throw new IllegalArgumentException("Unknown bootstrap phase: " + phase);
+        }
+    }
+
+    private static final class ArchiveKey {
+
+        private final Phase phase;
+
+        private final String archiveId;
+
+        private ArchiveKey(Phase phase, String archiveId) {
+            this.phase = phase;
+            this.archiveId = archiveId;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * phase.hashCode() + archiveId.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof ArchiveKey)) {
+                return false;
+            }
+            ArchiveKey other = (ArchiveKey) obj;
+            return phase == other.phase && archiveId.equals(other.archiveId);
+        }
+    }
+
+    @Category({ "Weld", "Bootstrap" })
+    abstract static class PhaseEvent extends Event {
+
+        @Label("CPU Time")
+        @Description("CPU time consumed by the bootstrap thread, -1 if not available")
+        @Timespan
+        long cpuTime;
+
+        @Label("Allocated")
+        @Description("Memory allocated by the bootstrap thread, -1 if not available")
+        @DataAmount
+        long allocatedBytes;
+    }
+
+    @Name("org.jboss.weld.bootstrap.StartContainer")
+    @Label("Start Container")
+    static final class StartContainerEvent extends PhaseEvent {
+    }
+
+    @Name("org.jboss.weld.bootstrap.StartInitialization")
+    @Label("Start Initialization")
+    static final class StartInitializationEvent extends PhaseEvent {
+    }
+
+    @Name("org.jboss.weld.bootstrap.DeployBeans")
+    @Label("Deploy Beans")
+    static final class DeployBeansEvent extends PhaseEvent {
+    }
+
+    @Name("org.jboss.weld.bootstrap.ValidateBeans")
+    @Label("Validate Beans")
+    static final class ValidateBeansEvent extends PhaseEvent {
+    }
+
+    @Name("org.jboss.weld.bootstrap.EndInitialization")
+    @Label("End Initialization")
+    static final class EndInitializationEvent extends PhaseEvent {
+    }
+
+    @Name("org.jboss.weld.bootstrap.Redeploy")
+    @Label("Redeploy")
+    static final class RedeployEvent extends PhaseEvent {
+    }
+
+    @Name("org.jboss.weld.bootstrap.BeanDeploymentArchive")
+    @Label("Bean Deployment Archive")
+    @Description("Processing of a bean deployment archive within a bootstrap phase")
+    static final class ArchiveEvent extends PhaseEvent {
+
+        @Label("Phase")
+        String phase;
+
+        @Label("Archive Id")
+        String archiveId;
+    }
+}
@@ -19,6 +19,8 @@ package org.jboss.weld.injection.spi.helpers;
 import java.beans.Introspector;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import javax.naming.Context;
 import javax.naming.NamingException;
@@ -35,18 +37,51 @@ import org.jboss.weld.injection.spi.ResourceReferenceFactory;
 
 /**
  * Abstract subclass for {@link ResourceInjectionServices} defining several common capabilities.
+ *
+ * <p>
+ * The resource name of an injection point is resolved once, when the injection point is registered. By default, every
+ * {@link ResourceReferenceFactory#createResource()} invocation then looks up the resource in the {@link Context}. Subclasses
+ * may opt in to caching of the looked up resources by overriding {@link #isResourceCachingEnabled(String)}.
+ * </p>
+ *
+ * <p>
+ * Note that the {@link ResourceReferenceFactory} instances returned from the {@code registerResourceInjectionPoint()}
+ * methods look up the name resolved at registration time and do not invoke {@link #resolveResource(InjectionPoint)} or
+ * {@link #resolveResource(String, String)}. Subclasses which customize the resolution should override
+ * {@link #getResourceName(InjectionPoint)}, {@link #getResourceName(String, String)} or {@link #getContext()} instead.
+ * </p>
  */
 public abstract class AbstractResourceServices implements Service, ResourceInjectionServices {
     private static final String RESOURCE_LOOKUP_PREFIX = "java:comp/env";
 
+    private final ConcurrentMap<String, Object> resourceCache = new ConcurrentHashMap<String, Object>();
+
     /**
      * Verifies that provided {@link InjectionPoint} has {@link Resource} annotation on it, extracts resource name from it and
-     * then invokes {@link Context#lookup(String)}.
+     * then invokes {@link Context#lookup(String)}. Not used by the resource references created by
+     * {@link #registerResourceInjectionPoint(InjectionPoint)}.
      *
      * @param injectionPoint injection points to inspect
      * @return resource
      */
     public Object resolveResource(InjectionPoint injectionPoint) {
+        validateResourceInjectionPoint(injectionPoint);
+        return lookupResource(getResourceName(injectionPoint));
+    }
+
+    /**
+     * Uses provided parameters to look up the resource via {@link Context#lookup(String)}. Not used by the resource
+     * references created by {@link #registerResourceInjectionPoint(String, String)}.
+     *
+     * @param jndiName jndi name of the resource, may be {@code null}
+     * @param mappedName mappedName of the resource, may be {@code null}
+     * @return looked up resource
+     */
+    public Object resolveResource(String jndiName, String mappedName) {
+        return lookupResource(getResourceName(jndiName, mappedName));
+    }
+
+    private void validateResourceInjectionPoint(InjectionPoint injectionPoint) {
         if (getResourceAnnotation(injectionPoint) == null) {
             throw new IllegalArgumentException("No @Resource annotation found on injection point " + injectionPoint);
         }
@@ -56,7 +91,9 @@ public abstract class AbstractResourceServices implements Service, ResourceInjec
                     "Injection point represents a method which doesn't follow JavaBean conventions (must have exactly one parameter) "
                             + injectionPoint);
         }
-        String name = getResourceName(injectionPoint);
+    }
+
+    private Object lookupResource(String name) {
         try {
             return getContext().lookup(name);
         } catch (NamingException e) {
@@ -64,24 +101,55 @@ public abstract class AbstractResourceServices implements Service, ResourceInjec
         }
     }
 
+    private Object handleNamingException(NamingException e, String name) {
+        throw new RuntimeException("Error looking up " + name + " in JNDI", e);
+    }
+
+    private Object lookupCachedResource(String name) {
+        Object resource = resourceCache.get(name);
+        if (resource == null) {
+            resource = lookupResource(name);
+            if (resource != null) {
+                Object previous = resourceCache.putIfAbsent(name, resource);
+                if (previous != null) {
+                    resource = previous;
+                }
+            }
+        }
+        return resource;
+    }
+
     /**
-     * Uses provided parameters to look up the resource via {@link Context#lookup(String)}
+     * Determines whether the resource with the given name may be cached, i.e. whether all the resource references created
+     * for the injection points of this resource may share a single instance looked up in the {@link Context}. The method
+     * is invoked when an injection point is registered. Resources which are not shareable ({@link Resource#shareable()}
+     * is {@code false}) are never cached, regardless of the return value.
+     * <p>
+     * The default implementation returns {@code false}, i.e. the resource is looked up for every resource reference.
      *
-     * @param jndiName jndi name of the resource, may be {@code null}
-     * @param mappedName mappedName of the resource, may be {@code null}
-     * @return looked up resource
+     * @param name the resolved resource name
+     * @return {@code true} if the resource may be cached, {@code false} otherwise
+     * @see #invalidateResource(String)
      */
-    public Object resolveResource(String jndiName, String mappedName) {
-        String name = getResourceName(jndiName, mappedName);
-        try {
-            return getContext().lookup(name);
-        } catch (NamingException e) {
-            return handleNamingException(e, name);
-        }
+    protected boolean isResourceCachingEnabled(String name) {
+        return false;
     }
 
-    private Object handleNamingException(NamingException e, String name) {
-        throw new RuntimeException("Error looking up " + name + " in JNDI", e);
+    /**
+     * Removes the cached resource with the given name, if any. The next resource reference will look up the resource in the
+     * {@link Context} again.
+     *
+     * @param name the resolved resource name
+     */
+    public void invalidateResource(String name) {
+        resourceCache.remove(name);
+    }
+
+    /**
+     * Removes all the cached resources.
+     */
+    public void invalidateResources() {
+        resourceCache.clear();
     }
 
     /**
@@ -157,44 +225,38 @@ public abstract class AbstractResourceServices implements Service, ResourceInjec
      */
     public static String getPropertyName(Method method) {
         String methodName = method.getName();
+        int parameterCount = method.getParameterCount();
 
-        if (methodName.matches("^(set).*") && method.getParameterTypes().length == 1) {
+        if (methodName.startsWith("set") && parameterCount == 1) {
             return Introspector.decapitalize(methodName.substring(3));
-        } else if (methodName.matches("^(get).*") && method.getParameterTypes().length == 0) {
+        } else if (methodName.startsWith("get") && parameterCount == 0) {
             return Introspector.decapitalize(methodName.substring(3));
-        } else if (methodName.matches("^(is).*") && method.getParameterTypes().length == 0) {
+        } else if (methodName.startsWith("is") && parameterCount == 0) {
             return Introspector.decapitalize(methodName.substring(2));
         } else {
             return null;
         }
-
     }
 
     /*
-     * Trivial implementation that does *not* leverage bootstrap validation nor caching
+     * The injection point is validated and the resource name is resolved at registration time
      */
     @Override
     public ResourceReferenceFactory<Object> registerResourceInjectionPoint(final InjectionPoint injectionPoint) {
-        return new ResourceReferenceFactory<Object>() {
-            @Override
-            public ResourceReference<Object> createResource() {
-                return new SimpleResourceReference<Object>(resolveResource(injectionPoint));
-            }
-        };
+        validateResourceInjectionPoint(injectionPoint);
+        String name = getResourceName(injectionPoint);
+        boolean shareable = getResourceAnnotation(injectionPoint).shareable();
+        return new ResourceFactory(name, shareable && isResourceCachingEnabled(name));
     }
 
     /*
-     * Trivial implementation that does *not* leverage bootstrap validation nor caching
+     * The resource name is resolved at registration time
      */
     @Override
     public ResourceReferenceFactory<Object> registerResourceInjectionPoint(final String jndiName,
             final String mappedName) {
-        return new ResourceReferenceFactory<Object>() {
-            @Override
-            public ResourceReference<Object> createResource() {
-                return new SimpleResourceReference<Object>(resolveResource(jndiName, mappedName));
-            }
-        };
+        String name = getResourceName(jndiName, mappedName);
+        return new ResourceFactory(name, isResourceCachingEnabled(name));
     }
 
     /**
@@ -212,6 +274,24 @@ public abstract class AbstractResourceServices implements Service, ResourceInjec
     }
 
     public void cleanup() {
+        resourceCache.clear();
+    }
+
+    private class ResourceFactory implements ResourceReferenceFactory<Object> {
+
+        private final String name;
+
+        private final boolean cached;
+
+        private ResourceFactory(String name, boolean cached) {
+            this.name = name;
+            this.cached = cached;
+        }
+
+        @Override
+        public ResourceReference<Object> createResource() {
+            return new SimpleResourceReference<Object>(cached ? lookupCachedResource(name) : lookupResource(name));
+        }
     }
 
 }
@@ -0,0 +1,109 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.manager.api;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+
+import org.jboss.weld.bootstrap.api.Service;
+import org.jboss.weld.manager.api.helpers.ExecutorMetricsRecorder;
+import org.jboss.weld.manager.api.helpers.InstrumentedExecutorServices;
+import org.jboss.weld.manager.api.helpers.JfrExecutorMetricsListener;
+
+/**
+ * Receives notifications about the tasks executed by the executors provided by {@link ExecutorServices}. An integrator may use
+ * this service to find out how saturated the executors are, e.g. to correlate the latency of asynchronous observers with the
+ * number of queued tasks.
+ *
+ * <p>
+ * The notifications are emitted by {@link InstrumentedExecutorServices}, which decorates an existing {@link ExecutorServices}.
+ * The callbacks may be invoked concurrently from different threads and should return quickly. The
+ * {@link #taskStarted(ExecutorType, long)} and {@link #taskFinished(ExecutorType, long, Throwable)} callbacks for a given task
+ * are always invoked from the thread which executes the task.
+ * </p>
+ *
+ * @see ExecutorMetricsRecorder
+ * @see JfrExecutorMetricsListener
+ * @since 7.0
+ */
+public interface ExecutorMetricsListener extends Service {
+
+    /**
+     * The executors provided by {@link ExecutorServices}
+     */
+    public enum ExecutorType {
+        /**
+         * {@link ExecutorServices#getTaskExecutor()}
+         */
+        TASK,
+        /**
+         * {@link ExecutorServices#getTimerExecutor()}
+         */
+        TIMER
+    }
+
+    /**
+     * Called when a task is submitted to the given executor. A periodic task is reported as submitted once per execution.
+     *
+     * @param executor the executor
+     * @see ExecutorService#execute(Runnable)
+     */
+    default void taskSubmitted(ExecutorType executor) {
+    }
+
+    /**
+     * Called when the given executor rejects a submitted task.
+     *
+     * @param executor the executor
+     */
+    default void taskRejected(ExecutorType executor) {
+    }
+
+    /**
+     * Called when a submitted task is cancelled before it starts executing. A cancelled task is reported neither as started
+     * nor as finished.
+     *
+     * @param executor the executor
+     */
+    default void taskCancelled(ExecutorType executor) {
+    }
+
+    /**
+     * Called when a task starts executing.
+     *
+     * @param executor the executor
+     * @param waitTime the time in nanoseconds the task spent waiting for execution; for a task submitted to a
+     *        {@link ScheduledExecutorService} this is the time elapsed after the scheduled delay
+     */
+    default void taskStarted(ExecutorType executor, long waitTime) {
+    }
+
+    /**
+     * Called when a task finishes executing.
+     *
+     * @param executor the executor
+     * @param executionTime the execution time in nanoseconds
+     * @param failure the exception thrown by the task or null if the task completed normally
+     */
+    default void taskFinished(ExecutorType executor, long executionTime, Throwable failure) {
+    }
+
+    @Override
+    default void cleanup() {
+    }
+
+}
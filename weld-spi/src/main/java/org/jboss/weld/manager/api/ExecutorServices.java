@@ -16,7 +16,10 @@
  */
 package org.jboss.weld.manager.api;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Deque;
 import java.util.List;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
@@ -46,6 +49,22 @@ public interface ExecutorServices extends Service {
      */
     ExecutorService getTaskExecutor();
 
+    /**
+     * Returns an {@link ExecutorService} which is used for asynchronous CDI event notifications fired with the given delivery
+     * lane, i.e. with the {@code weld.async.notification.lane} notification option set. Lanes make it possible to isolate
+     * latency-critical notifications from a burst of less important ones.
+     * <p>
+     * The default implementation ignores the lane and returns {@link #getTaskExecutor()}.
+     *
+     * @param lane the name of the delivery lane
+     * @return an executor service
+     * @see org.jboss.weld.manager.api.helpers.LaneExecutorServices
+     * @since 7.0
+     */
+    default ExecutorService getTaskExecutor(String lane) {
+        return getTaskExecutor();
+    }
+
     /**
      * Returns a new ScheduledExecutorService instance which will be used for asynchronous observer notification timeout.
      * Can return null in which case the observer notification timeout feature throws an exception.
@@ -81,6 +100,42 @@ public interface ExecutorServices extends Service {
      */
     <T> List<Future<T>> invokeAllAndCheckForExceptions(TaskFactory<T> factory);
 
+    /**
+     * Executes the given task, which may be recursively split into subtasks, and blocks until all the subtasks finish. If a
+     * subtask throws an exception, the exception is rethrown by this method. If multiple subtasks throw exceptions, there is
+     * no guarantee about which of the exceptions is rethrown by this method.
+     * <p>
+     * Unlike {@link #invokeAllAndCheckForExceptions(TaskFactory)}, the size of the subtasks does not need to be known upfront.
+     * An implementation based on a work-stealing pool may split the task lazily, so that idle threads take over the remaining
+     * parts of a large subtask, and may skip the subtasks which have not started yet once a subtask fails.
+     * <p>
+     * The default implementation splits the task into the leaf subtasks first and then executes them using
+     * {@link #invokeAllAndCheckForExceptions(Collection)}.
+     *
+     * @param task the task to execute
+     * @since 7.0
+     */
+    default void invokeAndCheckForExceptions(SplittableTask task) {
+        List<Callable<Void>> leaves = new ArrayList<Callable<Void>>();
+        Deque<SplittableTask> remaining = new ArrayDeque<SplittableTask>();
+        remaining.push(task);
+        while (!remaining.isEmpty()) {
+            SplittableTask next = remaining.pop();
+            List<? extends SplittableTask> subtasks = next.split();
+            if (subtasks.isEmpty()) {
+                leaves.add(() -> {
+                    next.execute();
+                    return null;
+                });
+            } else {
+                for (int i = subtasks.size() - 1; i >= 0; i--) {
+                    remaining.push(subtasks.get(i));
+                }
+            }
+        }
+        invokeAllAndCheckForExceptions(leaves);
+    }
+
     /**
      * Instead of submitting a list of tasks to be executed a caller may submit a factory object capable of creating the list of
      * tasks. The size of the underlying thread pool is passed as a parameter. An implementation may or may not consider this
@@ -101,4 +156,28 @@ public interface ExecutorServices extends Service {
         List<Callable<T>> createTasks(int threadPoolSize);
     }
 
+    /**
+     * A unit of work which may be recursively split into smaller units, e.g. processing the classes of a bean archive.
+     *
+     * @see ExecutorServices#invokeAndCheckForExceptions(SplittableTask)
+     * @since 7.0
+     */
+    public interface SplittableTask {
+
+        /**
+         * Splits this task into subtasks. The subtasks together must perform the same work as this task. If an empty list is
+         * returned, this task is executed by calling {@link #execute()}.
+         *
+         * @return the subtasks or an empty list if this task should not be split any further
+         */
+        List<? extends SplittableTask> split();
+
+        /**
+         * Performs the work of this task. Only invoked if {@link #split()} returned an empty list.
+         *
+         * @throws Exception if the work fails
+         */
+        void execute() throws Exception;
+    }
+
 }
@@ -0,0 +1,70 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.manager.api;
+
+import java.lang.reflect.Type;
+
+import jakarta.enterprise.inject.spi.ObserverMethod;
+
+import org.jboss.weld.bootstrap.api.Service;
+import org.jboss.weld.manager.api.helpers.JfrObserverMetricsListener;
+import org.jboss.weld.manager.api.helpers.ObserverMetricsRecorder;
+
+/**
+ * Receives notifications about the notification of observer methods. An integrator may use this service to find out which
+ * observer methods are responsible for the latency of synchronous events or for the expiration of the
+ * {@code weld.async.notification.timeout} of asynchronous events.
+ *
+ * <p>
+ * If this service is registered, Weld invokes {@link #notificationStarted(ObserverMethod, Type, long)} before and
+ * {@link #notificationFinished(ObserverMethod, Type, long, Throwable)} after notifying an observer method, both from the
+ * thread which notifies the observer method. The callbacks may be invoked concurrently from different threads and should
+ * return quickly.
+ * </p>
+ *
+ * @see ObserverMetricsRecorder
+ * @see JfrObserverMetricsListener
+ * @since 7.0
+ */
+public interface ObserverMetricsListener extends Service {
+
+    /**
+     * Called when an observer method is about to be notified.
+     *
+     * @param observer the observer method
+     * @param eventType the runtime type of the event
+     * @param waitTime the time in nanoseconds elapsed since the event was fired; always zero for a synchronous observer method
+     */
+    default void notificationStarted(ObserverMethod<?> observer, Type eventType, long waitTime) {
+    }
+
+    /**
+     * Called when the notification of an observer method finishes.
+     *
+     * @param observer the observer method
+     * @param eventType the runtime type of the event
+     * @param executionTime the execution time of the observer method in nanoseconds
+     * @param failure the exception thrown by the observer method or null if the observer method completed normally
+     */
+    default void notificationFinished(ObserverMethod<?> observer, Type eventType, long executionTime, Throwable failure) {
+    }
+
+    @Override
+    default void cleanup() {
+    }
+
+}
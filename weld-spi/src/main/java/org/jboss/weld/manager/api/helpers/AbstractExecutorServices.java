@@ -0,0 +1,126 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.manager.api.helpers;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+
+import org.jboss.weld.manager.api.ExecutorServices;
+
+/**
+ * Common implementation of {@link ExecutorServices#invokeAllAndCheckForExceptions(Collection)} and
+ * {@link ExecutorServices#invokeAllAndCheckForExceptions(TaskFactory)} on top of {@link #getTaskExecutor()}. The timer
+ * executor is a lazily created single-thread scheduled executor with a daemon thread, which is shut down by
+ * {@link #cleanup()}.
+ */
+public abstract class AbstractExecutorServices implements ExecutorServices {
+
+    private volatile ScheduledExecutorService timerExecutor;
+
+    @Override
+    public ScheduledExecutorService getTimerExecutor() {
+        ScheduledExecutorService executor = timerExecutor;
+        if (executor == null) {
+            synchronized (this) {
+                executor = timerExecutor;
+                if (executor == null) {
+                    ScheduledThreadPoolExecutor scheduledExecutor = new ScheduledThreadPoolExecutor(1, task -> {
+                        Thread thread = new Thread(task, "weld-timer");
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+                    scheduledExecutor.setRemoveOnCancelPolicy(true);
+                    timerExecutor = executor = scheduledExecutor;
+                }
+            }
+        }
+        return executor;
+    }
+
+    @Override
+    public <T> List<Future<T>> invokeAllAndCheckForExceptions(Collection<? extends Callable<T>> tasks) {
+        try {
+            return checkForExceptions(getTaskExecutor().invokeAll(tasks));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the tasks to finish", e);
+        }
+    }
+
+    @Override
+    public <T> List<Future<T>> invokeAllAndCheckForExceptions(TaskFactory<T> factory) {
+        return invokeAllAndCheckForExceptions(factory.createTasks(getThreadPoolSize()));
+    }
+
+    /**
+     * Returns the value passed to {@link TaskFactory#createTasks(int)}, i.e. the number of tasks the work should be split into
+     * so that all the tasks run concurrently.
+     *
+     * @return the size of the underlying thread pool
+     */
+    protected abstract int getThreadPoolSize();
+
+    /**
+     * Rethrows the exception thrown by the first failed task, if any.
+     *
+     * @param <T> the result type of tasks
+     * @param futures the completed tasks
+     * @return the given futures
+     */
+    protected <T> List<Future<T>> checkForExceptions(List<Future<T>> futures) {
+        for (Future<T> future : futures) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for the tasks to finish", e);
+            } catch (ExecutionException e) {
+                throw rethrow(e.getCause());
+            }
+        }
+        return futures;
+    }
+
+    /**
+     * Rethrows the given exception thrown by a task. Checked exceptions are wrapped in a {@link RuntimeException}.
+     *
+     * @param cause the exception thrown by a task
+     * @return never returns normally
+     */
+    protected static RuntimeException rethrow(Throwable cause) {
+        if (cause instanceof RuntimeException) {
+            throw (RuntimeException) cause;
+        }
+        if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+        throw new RuntimeException(cause);
+    }
+
+    @Override
+    public void cleanup() {
+        ScheduledExecutorService executor = timerExecutor;
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+}
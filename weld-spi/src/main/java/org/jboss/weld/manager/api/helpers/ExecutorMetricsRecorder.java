@@ -0,0 +1,269 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.manager.api.helpers;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.jboss.weld.manager.api.ExecutorMetricsListener;
+
+/**
+ * An {@link ExecutorMetricsListener} which collects the statistics of each executor: task counts, the number of active and
+ * queued tasks and histograms of the wait and execution times. The statistics may be registered as platform MBeans.
+ *
+ * @see InstrumentedExecutorServices
+ */
+public class ExecutorMetricsRecorder implements ExecutorMetricsListener {
+
+    /**
+     * The domain of the {@link ObjectName}s used by {@link #registerMBeans(String)}
+     */
+    public static final String JMX_DOMAIN = "org.jboss.weld";
+
+    private final Map<ExecutorType, Statistics> statistics;
+
+    private final List<ObjectName> registeredNames;
+
+    /**
+     * Creates a recorder with empty statistics.
+     */
+    public ExecutorMetricsRecorder() {
+        this.statistics = new EnumMap<ExecutorType, Statistics>(ExecutorType.class);
+        for (ExecutorType type : ExecutorType.values()) {
+            statistics.put(type, new Statistics());
+        }
+        this.registeredNames = new ArrayList<ObjectName>();
+    }
+
+    /**
+     * @param executor the executor
+     * @return the statistics of the given executor
+     */
+    public ExecutorStatisticsMXBean getStatistics(ExecutorType executor) {
+        return statistics.get(executor);
+    }
+
+    /**
+     * @param executor the executor
+     * @return the histogram of the wait times of the given executor, in nanoseconds
+     */
+    public LatencyHistogram getWaitTimes(ExecutorType executor) {
+        return statistics.get(executor).waitTimes;
+    }
+
+    /**
+     * @param executor the executor
+     * @return the histogram of the execution times of the given executor, in nanoseconds
+     */
+    public LatencyHistogram getExecutionTimes(ExecutorType executor) {
+        return statistics.get(executor).executionTimes;
+    }
+
+    /**
+     * Registers the statistics of each executor in the platform {@link MBeanServer} under the name
+     * <code>org.jboss.weld:type=ExecutorServices,deployment=&lt;deployment&gt;,executor=&lt;executor&gt;</code>. The MBeans
+     * are unregistered by {@link #cleanup()}.
+     *
+     * @param deployment the name of the deployment
+     * @throws IllegalStateException if the MBeans cannot be registered
+     */
+    public synchronized void registerMBeans(String deployment) {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            for (ExecutorType type : ExecutorType.values()) {
+                ObjectName name = new ObjectName(JMX_DOMAIN + ":type=ExecutorServices,deployment="
+                        + ObjectName.quote(deployment) + ",executor=" + type.name().toLowerCase(Locale.ROOT));
+                server.registerMBean(statistics.get(type), name);
+                registeredNames.add(name);
+            }
+        } catch (JMException e) {
+            unregisterMBeans();
+            throw new IllegalStateException("Unable to register executor statistics for " + deployment, e);
+        }
+    }
+
+    /**
+     * Unregisters the MBeans registered by {@link #registerMBeans(String)}.
+     */
+    public synchronized void unregisterMBeans() {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        for (ObjectName name : registeredNames) {
+            try {
+                server.unregisterMBean(name);
+            } catch (JMException ignored) {
+                // Already unregistered
+            }
+        }
+        registeredNames.clear();
+    }
+
+    @Override
+    public void taskSubmitted(ExecutorType executor) {
+        statistics.get(executor).submitted.increment();
+    }
+
+    @Override
+    public void taskRejected(ExecutorType executor) {
+        statistics.get(executor).rejected.increment();
+    }
+
+    @Override
+    public void taskCancelled(ExecutorType executor) {
+        statistics.get(executor).cancelled.increment();
+    }
+
+    @Override
+    public void taskStarted(ExecutorType executor, long waitTime) {
+        Statistics stats = statistics.get(executor);
+        stats.started.increment();
+        stats.waitTimes.record(waitTime);
+    }
+
+    @Override
+    public void taskFinished(ExecutorType executor, long executionTime, Throwable failure) {
+        Statistics stats = statistics.get(executor);
+        stats.completed.increment();
+        if (failure != null) {
+            stats.failed.increment();
+        }
+        stats.executionTimes.record(executionTime);
+    }
+
+    @Override
+    public void cleanup() {
+        unregisterMBeans();
+    }
+
+    private static final class Statistics implements ExecutorStatisticsMXBean {
+
+        private final LongAdder submitted = new LongAdder();
+
+        private final LongAdder rejected = new LongAdder();
+
+        private final LongAdder cancelled = new LongAdder();
+
+        private final LongAdder started = new LongAdder();
+
+        private final LongAdder completed = new LongAdder();
+
+        private final LongAdder failed = new LongAdder();
+
+        private final LatencyHistogram waitTimes = new LatencyHistogram();
+
+        private final LatencyHistogram executionTimes = new LatencyHistogram();
+
+        // The number of queued, resp. active, tasks at the time of the last reset
+        private volatile long queuedAtReset;
+
+        private volatile long activeAtReset;
+
+        @Override
+        public long getSubmittedTaskCount() {
+            return submitted.sum();
+        }
+
+        @Override
+        public long getRejectedTaskCount() {
+            return rejected.sum();
+        }
+
+        @Override
+        public long getCancelledTaskCount() {
+            return cancelled.sum();
+        }
+
+        @Override
+        public long getCompletedTaskCount() {
+            return completed.sum();
+        }
+
+        @Override
+        public long getFailedTaskCount() {
+            return failed.sum();
+        }
+
+        @Override
+        public long getActiveTaskCount() {
+            return Math.max(activeAtReset + started.sum() - completed.sum(), 0);
+        }
+
+        @Override
+        public long getQueuedTaskCount() {
+            return Math.max(queuedAtReset + submitted.sum() - rejected.sum() - cancelled.sum() - started.sum(), 0);
+        }
+
+        @Override
+        public long getWaitTimeMedian() {
+            return toMicros(waitTimes.getValueAtPercentile(50));
+        }
+
+        @Override
+        public long getWaitTime99thPercentile() {
+            return toMicros(waitTimes.getValueAtPercentile(99));
+        }
+
+        @Override
+        public long getWaitTimeMax() {
+            return toMicros(waitTimes.getMax());
+        }
+
+        @Override
+        public long getExecutionTimeMedian() {
+            return toMicros(executionTimes.getValueAtPercentile(50));
+        }
+
+        @Override
+        public long getExecutionTime99thPercentile() {
+            return toMicros(executionTimes.getValueAtPercentile(99));
+        }
+
+        @Override
+        public long getExecutionTimeMax() {
+            return toMicros(executionTimes.getMax());
+        }
+
+        @Override
+        public synchronized void reset() {
+            long queued = getQueuedTaskCount();
+            long active = getActiveTaskCount();
+            submitted.reset();
+            rejected.reset();
+            cancelled.reset();
+            started.reset();
+            completed.reset();
+            failed.reset();
+            waitTimes.reset();
+            executionTimes.reset();
+            queuedAtReset = queued;
+            activeAtReset = active;
+        }
+
+        private static long toMicros(long nanos) {
+            return TimeUnit.NANOSECONDS.toMicros(nanos);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.manager.api.helpers;
+
+/**
+ * The statistics of an executor collected by {@link ExecutorMetricsRecorder}. The times are in microseconds.
+ */
+public interface ExecutorStatisticsMXBean {
+
+    /**
+     * @return the number of submitted tasks
+     */
+    long getSubmittedTaskCount();
+
+    /**
+     * @return the number of rejected tasks
+     */
+    long getRejectedTaskCount();
+
+    /**
+     * @return the number of tasks cancelled before they started
+     */
+    long getCancelledTaskCount();
+
+    /**
+     * @return the number of finished tasks, including the failed ones
+     */
+    long getCompletedTaskCount();
+
+    /**
+     * @return the number of tasks which threw an exception
+     */
+    long getFailedTaskCount();
+
+    /**
+     * @return the number of tasks being executed
+     */
+    long getActiveTaskCount();
+
+    /**
+     * @return the number of submitted tasks which have not started yet
+     */
+    long getQueuedTaskCount();
+
+    /**
+     * @return the median time a task waits for execution
+     */
+    long getWaitTimeMedian();
+
+    /**
+     * @return the 99th percentile of the time a task waits for execution
+     */
+    long getWaitTime99thPercentile();
+
+    /**
+     * @return the longest time a task waited for execution
+     */
+    long getWaitTimeMax();
+
+    /**
+     * @return the median execution time
+     */
+    long getExecutionTimeMedian();
+
+    /**
+     * @return the 99th percentile of the execution time
+     */
+    long getExecutionTime99thPercentile();
+
+    /**
+     * @return the longest execution time
+     */
+    long getExecutionTimeMax();
+
+    /**
+     * Resets the statistics, except for the number of active and queued tasks.
+     */
+    void reset();
+}
@@ -0,0 +1,114 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.manager.api.helpers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.jboss.weld.manager.api.ExecutorServices;
+
+/**
+ * An {@link ExecutorServices} implementation backed by a {@link ForkJoinPool}. A {@link SplittableTask} is split lazily by
+ * the worker threads, so that idle workers steal the remaining parts of a large task. Once a subtask fails, the subtasks
+ * which have not started yet are skipped and the first exception is rethrown.
+ */
+public class ForkJoinExecutorServices extends AbstractExecutorServices {
+
+    private final ForkJoinPool pool;
+
+    /**
+     * Constructs an instance with the parallelism equal to the number of available processors.
+     */
+    public ForkJoinExecutorServices() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Constructs an instance with the given parallelism.
+     *
+     * @param parallelism the parallelism level
+     */
+    public ForkJoinExecutorServices(int parallelism) {
+        this.pool = new ForkJoinPool(parallelism);
+    }
+
+    @Override
+    public ExecutorService getTaskExecutor() {
+        return pool;
+    }
+
+    @Override
+    protected int getThreadPoolSize() {
+        return pool.getParallelism();
+    }
+
+    @Override
+    public void invokeAndCheckForExceptions(SplittableTask task) {
+        AtomicReference<Throwable> failure = new AtomicReference<Throwable>();
+        pool.invoke(new SplittableAction(task, failure));
+        Throwable cause = failure.get();
+        if (cause != null) {
+            throw rethrow(cause);
+        }
+    }
+
+    @Override
+    public void cleanup() {
+        pool.shutdownNow();
+        super.cleanup();
+    }
+
+    private static final class SplittableAction extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final transient SplittableTask task;
+
+        private final transient AtomicReference<Throwable> failure;
+
+        private SplittableAction(SplittableTask task, AtomicReference<Throwable> failure) {
+            this.task = task;
+            this.failure = failure;
+        }
+
+        @Override
+        protected void compute() {
+            if (failure.get() != null) {
+                // Another subtask already failed
+                return;
+            }
+            try {
+                List<? extends SplittableTask> subtasks = task.split();
+                if (subtasks.isEmpty()) {
+                    task.execute();
+                    return;
+                }
+                List<SplittableAction> actions = new ArrayList<SplittableAction>(subtasks.size());
+                for (SplittableTask subtask : subtasks) {
+                    actions.add(new SplittableAction(subtask, failure));
+                }
+                invokeAll(actions);
+            } catch (Exception | Error e) {
+                failure.compareAndSet(null, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.manager.api.helpers;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+
+import org.jboss.weld.manager.api.ExecutorServices;
+
+/**
+ * An implementation of {@link ExecutorServices} which forwards all its method calls to another {@link ExecutorServices}.
+ * Subclasses should override one or more methods to modify the behavior of the backing {@link ExecutorServices} as desired
+ * per the <a href="http://en.wikipedia.org/wiki/Decorator_pattern">decorator pattern</a>.
+ *
+ */
+public abstract class ForwardingExecutorServices implements ExecutorServices {
+
+    /**
+     * Returns the delegate
+     *
+     * @return delegate
+     */
+    protected abstract ExecutorServices delegate();
+
+    @Override
+    public ExecutorService getTaskExecutor() {
+        return delegate().getTaskExecutor();
+    }
+
+    @Override
+    public ExecutorService getTaskExecutor(String lane) {
+        return delegate().getTaskExecutor(lane);
+    }
+
+    @Override
+    public ScheduledExecutorService getTimerExecutor() {
+        return delegate().getTimerExecutor();
+    }
+
+    @Override
+    public <T> List<Future<T>> invokeAllAndCheckForExceptions(Collection<? extends Callable<T>> tasks) {
+        return delegate().invokeAllAndCheckForExceptions(tasks);
+    }
+
+    @Override
+    public <T> List<Future<T>> invokeAllAndCheckForExceptions(TaskFactory<T> factory) {
+        return delegate().invokeAllAndCheckForExceptions(factory);
+    }
+
+    @Override
+    public void invokeAndCheckForExceptions(SplittableTask task) {
+        delegate().invokeAndCheckForExceptions(task);
+    }
+
+    @Override
+    public void cleanup() {
+        delegate().cleanup();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return this == obj || delegate().equals(obj);
+    }
+
+    @Override
+    public String toString() {
+        return delegate().toString();
+    }
+
+    @Override
+    public int hashCode() {
+        return delegate().hashCode();
+    }
+
+}
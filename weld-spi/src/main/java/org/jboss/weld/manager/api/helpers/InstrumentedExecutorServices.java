@@ -0,0 +1,588 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.manager.api.helpers;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RunnableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+import org.jboss.weld.manager.api.ExecutorMetricsListener;
+import org.jboss.weld.manager.api.ExecutorMetricsListener.ExecutorType;
+import org.jboss.weld.manager.api.ExecutorServices;
+
+/**
+ * An {@link ExecutorServices} decorator which notifies {@link ExecutorMetricsListener}s about the tasks executed by the
+ * decorated executors. The executors of the delivery lanes are reported as the {@link ExecutorType#TASK} executor. The tasks
+ * passed to {@link #invokeAllAndCheckForExceptions(Collection)} and
+ * {@link #invokeAllAndCheckForExceptions(TaskFactory)} are reported as tasks of the {@link ExecutorType#TASK} executor. The
+ * {@link SplittableTask}s are forwarded without instrumentation.
+ *
+ * @see ExecutorMetricsRecorder
+ * @see JfrExecutorMetricsListener
+ */
+public class InstrumentedExecutorServices extends ForwardingExecutorServices {
+
+    private final ExecutorServices delegate;
+
+    private final ExecutorMetricsListener[] listeners;
+
+    private volatile InstrumentedExecutorService taskExecutor;
+
+    private volatile InstrumentedScheduledExecutorService timerExecutor;
+
+    private final ConcurrentMap<String, InstrumentedExecutorService> laneExecutors = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs an instance which notifies the given listeners.
+     *
+     * @param delegate the decorated executor services
+     * @param listeners the listeners to notify
+     */
+    public InstrumentedExecutorServices(ExecutorServices delegate, ExecutorMetricsListener... listeners) {
+        this.delegate = delegate;
+        this.listeners = listeners.clone();
+    }
+
+    @Override
+    protected ExecutorServices delegate() {
+        return delegate;
+    }
+
+    @Override
+    public ExecutorService getTaskExecutor() {
+        ExecutorService executor = delegate.getTaskExecutor();
+        InstrumentedExecutorService instrumented = taskExecutor;
+        if (instrumented == null || instrumented.delegate != executor) {
+            taskExecutor = instrumented = new InstrumentedExecutorService(executor, ExecutorType.TASK, listeners);
+        }
+        return instrumented;
+    }
+
+    @Override
+    public ExecutorService getTaskExecutor(String lane) {
+        ExecutorService executor = delegate.getTaskExecutor(lane);
+        InstrumentedExecutorService instrumented = taskExecutor;
+        if (instrumented != null && instrumented.delegate == executor) {
+            // The lane is served by the default task executor
+            return instrumented;
+        }
+        instrumented = laneExecutors.get(lane);
+        if (instrumented != null && instrumented.delegate == executor) {
+            return instrumented;
+        }
+        return laneExecutors.compute(lane, (name, current) -> current != null && current.delegate == executor ? current
+                : new InstrumentedExecutorService(executor, ExecutorType.TASK, listeners));
+    }
+
+    @Override
+    public ScheduledExecutorService getTimerExecutor() {
+        ScheduledExecutorService executor = delegate.getTimerExecutor();
+        if (executor == null) {
+            return null;
+        }
+        InstrumentedScheduledExecutorService instrumented = timerExecutor;
+        if (instrumented == null || instrumented.delegate != executor) {
+            timerExecutor = instrumented = new InstrumentedScheduledExecutorService(executor, listeners);
+        }
+        return instrumented;
+    }
+
+    @Override
+    public <T> List<Future<T>> invokeAllAndCheckForExceptions(Collection<? extends Callable<T>> tasks) {
+        return delegate.invokeAllAndCheckForExceptions(instrument(tasks));
+    }
+
+    @Override
+    public <T> List<Future<T>> invokeAllAndCheckForExceptions(final TaskFactory<T> factory) {
+        return delegate.invokeAllAndCheckForExceptions(new TaskFactory<T>() {
+            @Override
+            public List<Callable<T>> createTasks(int threadPoolSize) {
+                return instrument(factory.createTasks(threadPoolSize));
+            }
+        });
+    }
+
+    @Override
+    public void cleanup() {
+        super.cleanup();
+        for (ExecutorMetricsListener listener : listeners) {
+            listener.cleanup();
+        }
+    }
+
+    private <T> List<Callable<T>> instrument(Collection<? extends Callable<T>> tasks) {
+        List<Callable<T>> instrumented = new ArrayList<Callable<T>>(tasks.size());
+        for (Callable<T> task : tasks) {
+            Submission submission = new Submission(ExecutorType.TASK, listeners);
+            submission.submitted();
+            instrumented.add(new InstrumentedCallable<T>(task, submission, System.nanoTime()));
+        }
+        return instrumented;
+    }
+
+    private static long started(ExecutorType type, long readyTime, ExecutorMetricsListener[] listeners) {
+        long startTime = System.nanoTime();
+        long waitTime = Math.max(startTime - readyTime, 0);
+        for (ExecutorMetricsListener listener : listeners) {
+            listener.taskStarted(type, waitTime);
+        }
+        return startTime;
+    }
+
+    private static void finished(ExecutorType type, long startTime, Throwable failure, ExecutorMetricsListener[] listeners) {
+        long executionTime = System.nanoTime() - startTime;
+        for (ExecutorMetricsListener listener : listeners) {
+            listener.taskFinished(type, executionTime, failure);
+        }
+    }
+
+    /**
+     * The submission of a task. A submitted task is reported either as rejected, as cancelled or as started, but never more
+     * than one of these.
+     */
+    private static final class Submission {
+
+        private final ExecutorType type;
+
+        private final ExecutorMetricsListener[] listeners;
+
+        private final AtomicBoolean pending = new AtomicBoolean();
+
+        private Submission(ExecutorType type, ExecutorMetricsListener[] listeners) {
+            this.type = type;
+            this.listeners = listeners;
+        }
+
+        private void submitted() {
+            pending.set(true);
+            for (ExecutorMetricsListener listener : listeners) {
+                listener.taskSubmitted(type);
+            }
+        }
+
+        private void rejected() {
+            pending.set(false);
+            for (ExecutorMetricsListener listener : listeners) {
+                listener.taskRejected(type);
+            }
+        }
+
+        private void cancelled() {
+            if (pending.compareAndSet(true, false)) {
+                for (ExecutorMetricsListener listener : listeners) {
+                    listener.taskCancelled(type);
+                }
+            }
+        }
+
+        /**
+         * @return {@code true} if the task is pending and the caller should report its execution, {@code false} if the task
+         *         was already reported as cancelled or rejected
+         */
+        private boolean start() {
+            return pending.compareAndSet(true, false);
+        }
+    }
+
+    /**
+     * A callable which reports its execution.
+     */
+    private static final class InstrumentedCallable<T> implements Callable<T> {
+
+        private final Callable<T> delegate;
+
+        private final Submission submission;
+
+        private final long readyTime;
+
+        private InstrumentedCallable(Callable<T> delegate, Submission submission, long readyTime) {
+            this.delegate = delegate;
+            this.submission = submission;
+            this.readyTime = readyTime;
+        }
+
+        @Override
+        public T call() throws Exception {
+            if (!submission.start()) {
+                return delegate.call();
+            }
+            long startTime = started(submission.type, readyTime, submission.listeners);
+            Throwable failure = null;
+            try {
+                return delegate.call();
+            } catch (Exception | Error e) {
+                failure = e;
+                throw e;
+            } finally {
+                finished(submission.type, startTime, failure, submission.listeners);
+            }
+        }
+    }
+
+    /**
+     * A runnable which reports its execution.
+     */
+    private static final class InstrumentedRunnable implements Runnable {
+
+        private final Runnable delegate;
+
+        private final Submission submission;
+
+        private final long readyTime;
+
+        private InstrumentedRunnable(Runnable delegate, Submission submission, long readyTime) {
+            this.delegate = delegate;
+            this.submission = submission;
+            this.readyTime = readyTime;
+        }
+
+        @Override
+        public void run() {
+            if (!submission.start()) {
+                delegate.run();
+                return;
+            }
+            long startTime = started(submission.type, readyTime, submission.listeners);
+            Throwable failure = null;
+            try {
+                delegate.run();
+            } catch (RuntimeException | Error e) {
+                failure = e;
+                throw e;
+            } finally {
+                finished(submission.type, startTime, failure, submission.listeners);
+            }
+        }
+    }
+
+    /**
+     * A future task which reports its execution, including the exception stored in the future, or its cancellation.
+     */
+    private static final class InstrumentedFutureTask<T> extends FutureTask<T> {
+
+        private final Submission submission;
+
+        private final long readyTime;
+
+        private Throwable failure;
+
+        private InstrumentedFutureTask(Callable<T> callable, ExecutorType type, ExecutorMetricsListener[] listeners) {
+            super(callable);
+            this.submission = new Submission(type, listeners);
+            this.readyTime = System.nanoTime();
+        }
+
+        @Override
+        public void run() {
+            if (!submission.start()) {
+                // Already cancelled and reported
+                super.run();
+                return;
+            }
+            if (isCancelled()) {
+                // Cancelled concurrently, after this thread took over the reporting
+                submission.pending.set(true);
+                submission.cancelled();
+                return;
+            }
+            long startTime = started(submission.type, readyTime, submission.listeners);
+            try {
+                super.run();
+            } finally {
+                finished(submission.type, startTime, failure, submission.listeners);
+            }
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            boolean cancelled = super.cancel(mayInterruptIfRunning);
+            if (cancelled) {
+                submission.cancelled();
+            }
+            return cancelled;
+        }
+
+        @Override
+        protected void setException(Throwable t) {
+            failure = t;
+            super.setException(t);
+        }
+    }
+
+    private static class InstrumentedExecutorService extends AbstractExecutorService {
+
+        final ExecutorService delegate;
+
+        final ExecutorType type;
+
+        final ExecutorMetricsListener[] listeners;
+
+        InstrumentedExecutorService(ExecutorService delegate, ExecutorType type, ExecutorMetricsListener[] listeners) {
+            this.delegate = delegate;
+            this.type = type;
+            this.listeners = listeners;
+        }
+
+        @Override
+        public void execute(Runnable command) {
+            Runnable task;
+            Submission submission;
+            if (command instanceof InstrumentedFutureTask) {
+                task = command;
+                submission = ((InstrumentedFutureTask<?>) command).submission;
+            } else {
+                submission = new Submission(type, listeners);
+                task = new InstrumentedRunnable(command, submission, System.nanoTime());
+            }
+            submission.submitted();
+            try {
+                delegate.execute(task);
+            } catch (RejectedExecutionException e) {
+                submission.rejected();
+                throw e;
+            }
+        }
+
+        @Override
+        protected <T> RunnableFuture<T> newTaskFor(Callable<T> callable) {
+            return new InstrumentedFutureTask<T>(callable, type, listeners);
+        }
+
+        @Override
+        protected <T> RunnableFuture<T> newTaskFor(Runnable runnable, T value) {
+            return new InstrumentedFutureTask<T>(Executors.callable(runnable, value), type, listeners);
+        }
+
+        @Override
+        public void shutdown() {
+            delegate.shutdown();
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            return delegate.shutdownNow();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return delegate.isShutdown();
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return delegate.isTerminated();
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+            return delegate.awaitTermination(timeout, unit);
+        }
+    }
+
+    /**
+     * The wait time of a scheduled task is measured from the end of the scheduled delay. Periodic tasks are reported as
+     * submitted, started and finished once per execution, the wait time being measured from the time the execution was due.
+     * A scheduled task cancelled through the returned {@link ScheduledFuture} before it starts is reported as cancelled.
+     */
+    private static final class InstrumentedScheduledExecutorService extends InstrumentedExecutorService
+            implements ScheduledExecutorService {
+
+        final ScheduledExecutorService delegate;
+
+        InstrumentedScheduledExecutorService(ScheduledExecutorService delegate, ExecutorMetricsListener[] listeners) {
+            super(delegate, ExecutorType.TIMER, listeners);
+            this.delegate = delegate;
+        }
+
+        @Override
+        public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+            Submission submission = new Submission(type, listeners);
+            return schedule(submission, () -> delegate
+                    .schedule(new InstrumentedRunnable(command, submission, readyTime(delay, unit)), delay, unit));
+        }
+
+        @Override
+        public <V> ScheduledFuture<V> schedule(Callable<V> callable, long delay, TimeUnit unit) {
+            Submission submission = new Submission(type, listeners);
+            return schedule(submission, () -> delegate
+                    .schedule(new InstrumentedCallable<V>(callable, submission, readyTime(delay, unit)), delay, unit));
+        }
+
+        @Override
+        public ScheduledFuture<?> scheduleAtFixedRate(Runnable command, long initialDelay, long period, TimeUnit unit) {
+            Submission submission = new Submission(type, listeners);
+            PeriodicRunnable periodic = new PeriodicRunnable(command, submission, readyTime(initialDelay, unit),
+                    unit.toNanos(period), true);
+            return periodic.scheduled(
+                    schedule(submission, () -> delegate.scheduleAtFixedRate(periodic, initialDelay, period, unit)));
+        }
+
+        @Override
+        public ScheduledFuture<?> scheduleWithFixedDelay(Runnable command, long initialDelay, long delay, TimeUnit unit) {
+            Submission submission = new Submission(type, listeners);
+            PeriodicRunnable periodic = new PeriodicRunnable(command, submission, readyTime(initialDelay, unit),
+                    unit.toNanos(delay), false);
+            return periodic.scheduled(
+                    schedule(submission, () -> delegate.scheduleWithFixedDelay(periodic, initialDelay, delay, unit)));
+        }
+
+        private static <V> ScheduledFuture<V> schedule(Submission submission, Supplier<ScheduledFuture<V>> action) {
+            submission.submitted();
+            try {
+                return new InstrumentedScheduledFuture<V>(action.get(), submission);
+            } catch (RejectedExecutionException e) {
+                submission.rejected();
+                throw e;
+            }
+        }
+
+        private static long readyTime(long delay, TimeUnit unit) {
+            return System.nanoTime() + unit.toNanos(Math.max(delay, 0));
+        }
+    }
+
+    /**
+     * Reports the cancellation of a scheduled task which has not started yet.
+     */
+    private static final class InstrumentedScheduledFuture<V> implements ScheduledFuture<V> {
+
+        private final ScheduledFuture<V> delegate;
+
+        private final Submission submission;
+
+        private InstrumentedScheduledFuture(ScheduledFuture<V> delegate, Submission submission) {
+            this.delegate = delegate;
+            this.submission = submission;
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return delegate.getDelay(unit);
+        }
+
+        @Override
+        public int compareTo(Delayed o) {
+            return delegate.compareTo(o);
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            boolean cancelled = delegate.cancel(mayInterruptIfRunning);
+            if (cancelled) {
+                submission.cancelled();
+            }
+            return cancelled;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return delegate.isCancelled();
+        }
+
+        @Override
+        public boolean isDone() {
+            return delegate.isDone();
+        }
+
+        @Override
+        public V get() throws InterruptedException, ExecutionException {
+            return delegate.get();
+        }
+
+        @Override
+        public V get(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
+            return delegate.get(timeout, unit);
+        }
+    }
+
+    /**
+     * Each execution of a periodic task is reported as a separate submission. The next execution is reported as submitted
+     * once the current one finishes, unless the task failed or was cancelled.
+     */
+    private static final class PeriodicRunnable implements Runnable {
+
+        private final Runnable delegate;
+
+        private final Submission submission;
+
+        private final long period;
+
+        private final boolean fixedRate;
+
+        private long readyTime;
+
+        private volatile Future<?> future;
+
+        private PeriodicRunnable(Runnable delegate, Submission submission, long readyTime, long period, boolean fixedRate) {
+            this.delegate = delegate;
+            this.submission = submission;
+            this.readyTime = readyTime;
+            this.period = period;
+            this.fixedRate = fixedRate;
+        }
+
+        private ScheduledFuture<?> scheduled(ScheduledFuture<?> future) {
+            this.future = future;
+            return future;
+        }
+
+        @Override
+        public void run() {
+            if (!submission.start()) {
+                delegate.run();
+                return;
+            }
+            long startTime = started(submission.type, readyTime, submission.listeners);
+            Throwable failure = null;
+            try {
+                delegate.run();
+            } catch (RuntimeException | Error e) {
+                failure = e;
+                throw e;
+            } finally {
+                finished(submission.type, startTime, failure, submission.listeners);
+                readyTime = fixedRate ? readyTime + period : System.nanoTime() + period;
+                if (failure == null) {
+                    submission.submitted();
+                    // The task may have been cancelled while running
+                    Future<?> current = future;
+                    if (current != null && current.isCancelled()) {
+                        submission.cancelled();
+                    }
+                }
+            }
+        }
+    }
+}
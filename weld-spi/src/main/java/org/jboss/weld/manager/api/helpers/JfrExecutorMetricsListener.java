@@ -0,0 +1,106 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.manager.api.helpers;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import org.jboss.weld.manager.api.ExecutorMetricsListener;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * An {@link ExecutorMetricsListener} which emits a JDK Flight Recorder event for each executed task and for each rejected
+ * task. The events are in the "Weld / Executor" category. The duration of a task event is the execution time of the task,
+ * so that the usual JFR threshold setting may be used to only record slow tasks.
+ *
+ * @see InstrumentedExecutorServices
+ */
+public class JfrExecutorMetricsListener implements ExecutorMetricsListener {
+
+    // A task may execute other tasks in the same thread, e.g. with a caller-runs policy
+    private final ThreadLocal<Deque<TaskEvent>> events = ThreadLocal.withInitial(ArrayDeque::new);
+
+    @Override
+    public void taskRejected(ExecutorType executor) {
+        TaskRejectedEvent event = new TaskRejectedEvent();
+        if (event.shouldCommit()) {
+            event.executor = executor.name();
+            event.commit();
+        }
+    }
+
+    @Override
+    public void taskStarted(ExecutorType executor, long waitTime) {
+        TaskEvent event = new TaskEvent();
+        if (event.isEnabled()) {
+            event.executor = executor.name();
+            event.waitTime = waitTime;
+            event.begin();
+        }
+        events.get().push(event);
+    }
+
+    @Override
+    public void taskFinished(ExecutorType executor, long executionTime, Throwable failure) {
+        Deque<TaskEvent> stack = events.get();
+        TaskEvent event = stack.poll();
+        if (stack.isEmpty()) {
+            events.remove();
+        }
+        if (event != null) {
+            event.end();
+            if (event.shouldCommit()) {
+                event.failed = failure != null;
+                event.commit();
+            }
+        }
+    }
+
+    @Name("org.jboss.weld.executor.Task")
+    @Label("Task")
+    @Description("Execution of a task submitted to an executor provided by ExecutorServices")
+    @Category({ "Weld", "Executor" })
+    static final class TaskEvent extends Event {
+
+        @Label("Executor")
+        String executor;
+
+        @Label("Wait Time")
+        @Description("Time the task waited for execution")
+        @Timespan
+        long waitTime;
+
+        @Label("Failed")
+        boolean failed;
+    }
+
+    @Name("org.jboss.weld.executor.TaskRejected")
+    @Label("Task Rejected")
+    @Description("A task submitted to an executor provided by ExecutorServices was rejected")
+    @Category({ "Weld", "Executor" })
+    static final class TaskRejectedEvent extends Event {
+
+        @Label("Executor")
+        String executor;
+    }
+}
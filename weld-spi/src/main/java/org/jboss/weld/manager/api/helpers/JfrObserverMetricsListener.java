@@ -0,0 +1,100 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.manager.api.helpers;
+
+import java.lang.reflect.Type;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import jakarta.enterprise.inject.spi.ObserverMethod;
+
+import org.jboss.weld.manager.api.ObserverMetricsListener;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * An {@link ObserverMetricsListener} which emits a JDK Flight Recorder event for each notification of an observer method. The
+ * events are in the "Weld / Event" category. The duration of an event is the execution time of the observer method, so that
+ * the usual JFR threshold setting may be used to only record slow observer methods.
+ */
+public class JfrObserverMetricsListener implements ObserverMetricsListener {
+
+    // An observer method may fire events which are delivered in the same thread
+    private final ThreadLocal<Deque<ObserverNotificationEvent>> events = ThreadLocal.withInitial(ArrayDeque::new);
+
+    @Override
+    public void notificationStarted(ObserverMethod<?> observer, Type eventType, long waitTime) {
+        ObserverNotificationEvent event = new ObserverNotificationEvent();
+        if (event.isEnabled()) {
+            event.waitTime = waitTime;
+            event.begin();
+        }
+        events.get().push(event);
+    }
+
+    @Override
+    public void notificationFinished(ObserverMethod<?> observer, Type eventType, long executionTime, Throwable failure) {
+        Deque<ObserverNotificationEvent> stack = events.get();
+        ObserverNotificationEvent event = stack.poll();
+        if (stack.isEmpty()) {
+            events.remove();
+        }
+        if (event != null) {
+            event.end();
+            if (event.shouldCommit()) {
+                event.observer = observer.toString();
+                event.beanClass = observer.getBeanClass();
+                event.eventType = eventType.getTypeName();
+                event.async = observer.isAsync();
+                event.failed = failure != null;
+                event.commit();
+            }
+        }
+    }
+
+    @Name("org.jboss.weld.event.ObserverNotification")
+    @Label("Observer Notification")
+    @Description("Notification of an observer method")
+    @Category({ "Weld", "Event" })
+    static final class ObserverNotificationEvent extends Event {
+
+        @Label("Observer Method")
+        String observer;
+
+        @Label("Bean Class")
+        Class<?> beanClass;
+
+        @Label("Event Type")
+        String eventType;
+
+        @Label("Asynchronous")
+        boolean async;
+
+        @Label("Wait Time")
+        @Description("Time elapsed between firing the event and notifying the observer method")
+        @Timespan
+        long waitTime;
+
+        @Label("Failed")
+        boolean failed;
+    }
+}
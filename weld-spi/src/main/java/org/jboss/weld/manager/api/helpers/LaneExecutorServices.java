@@ -0,0 +1,440 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.manager.api.helpers;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.jboss.weld.manager.api.ExecutorServices;
+
+/**
+ * An {@link ExecutorServices} decorator which provides a separate bounded executor for each configured delivery {@link Lane}.
+ * The executors are returned from {@link #getTaskExecutor(String)}, all the other methods are forwarded to the decorated
+ * {@link ExecutorServices}. Unknown lanes are forwarded as well.
+ * <p>
+ * The lanes share a fixed number of worker threads. Each lane queues at most {@link Lane#getCapacity()} tasks and rejects
+ * further tasks with a {@link RejectedExecutionException}. Whenever a worker thread becomes available, the next task is
+ * taken from one of the lanes with queued tasks using smooth weighted round-robin, i.e. under load each lane gets a share of
+ * the worker threads proportional to its {@link Lane#getWeight()}, and the tasks of a lane are not starved by a burst of tasks
+ * in another lane. Within a lane, the tasks are started in the order in which they were submitted.
+ * <p>
+ * The worker threads are shut down by {@link #cleanup()}. A task which was already taken from its lane when the worker
+ * threads were shut down is run in the thread which submitted it.
+ *
+ * @see ExecutorServices#getTaskExecutor(String)
+ */
+public class LaneExecutorServices extends ForwardingExecutorServices {
+
+    private final ExecutorServices delegate;
+
+    private final int parallelism;
+
+    private final LaneExecutor[] lanes;
+
+    private final Map<String, LaneExecutor> lanesByName;
+
+    private final ThreadPoolExecutor workers;
+
+    // Guards the queues of all the lanes and the scheduling state
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final Condition termination = lock.newCondition();
+
+    private int running;
+
+    /**
+     * Constructs an instance with the given lanes.
+     *
+     * @param delegate the decorated executor services
+     * @param parallelism the number of worker threads shared by the lanes
+     * @param lanes the lanes
+     * @throws IllegalArgumentException if the parallelism is not positive or two lanes have the same name
+     */
+    public LaneExecutorServices(ExecutorServices delegate, int parallelism, Lane... lanes) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be positive: " + parallelism);
+        }
+        this.delegate = delegate;
+        this.parallelism = parallelism;
+        this.lanes = new LaneExecutor[lanes.length];
+        Map<String, LaneExecutor> lanesByName = new LinkedHashMap<>();
+        for (int i = 0; i < lanes.length; i++) {
+            LaneExecutor executor = new LaneExecutor(lanes[i]);
+            if (lanesByName.put(lanes[i].getName(), executor) != null) {
+                throw new IllegalArgumentException("Duplicate lane: " + lanes[i].getName());
+            }
+            this.lanes[i] = executor;
+        }
+        this.lanesByName = Collections.unmodifiableMap(lanesByName);
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.workers = new ThreadPoolExecutor(parallelism, parallelism, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<Runnable>(), task -> {
+                    Thread thread = new Thread(task, "weld-lane-worker-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    @Override
+    protected ExecutorServices delegate() {
+        return delegate;
+    }
+
+    @Override
+    public ExecutorService getTaskExecutor(String lane) {
+        LaneExecutor executor = lanesByName.get(lane);
+        return executor != null ? executor : delegate.getTaskExecutor(lane);
+    }
+
+    /**
+     * Returns the number of tasks queued in the given lane, not including the running tasks.
+     *
+     * @param lane the name of the lane
+     * @return the number of queued tasks
+     * @throws IllegalArgumentException if no such lane exists
+     */
+    public int getQueueSize(String lane) {
+        LaneExecutor executor = lanesByName.get(lane);
+        if (executor == null) {
+            throw new IllegalArgumentException("Unknown lane: " + lane);
+        }
+        lock.lock();
+        try {
+            return executor.queue.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void cleanup() {
+        for (LaneExecutor lane : lanes) {
+            for (Runnable task : lane.shutdownNow()) {
+                if (task instanceof Future) {
+                    ((Future<?>) task).cancel(false);
+                }
+            }
+        }
+        workers.shutdownNow();
+        super.cleanup();
+    }
+
+    /**
+     * Starts queued tasks while there are idle worker threads.
+     */
+    private void dispatch() {
+        while (true) {
+            Worker worker;
+            lock.lock();
+            try {
+                if (running >= parallelism) {
+                    return;
+                }
+                worker = next();
+                if (worker == null) {
+                    return;
+                }
+                running++;
+            } finally {
+                lock.unlock();
+            }
+            try {
+                workers.execute(worker);
+            } catch (RejectedExecutionException e) {
+                // The worker threads were shut down by cleanup() after the task was taken from its lane, run it in the
+                // calling thread so that an accepted task is not lost
+                worker.run();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Selects the next task using smooth weighted round-robin over the lanes with queued tasks. Must be called with the lock
+     * held.
+     *
+     * @return the next task or {@code null} if no task is queued
+     */
+    private Worker next() {
+        LaneExecutor selected = null;
+        int totalWeight = 0;
+        for (LaneExecutor lane : lanes) {
+            if (!lane.queue.isEmpty()) {
+                lane.credit += lane.weight;
+                totalWeight += lane.weight;
+                if (selected == null || lane.credit > selected.credit) {
+                    selected = lane;
+                }
+            }
+        }
+        if (selected == null) {
+            return null;
+        }
+        selected.credit -= totalWeight;
+        selected.active++;
+        Runnable task = selected.queue.poll();
+        if (selected.queue.isEmpty()) {
+            // An idle lane does not accumulate credit
+            selected.credit = 0;
+        }
+        return new Worker(selected, task);
+    }
+
+    /**
+     * Runs a task and then keeps taking the next tasks in the same thread until no task is queued.
+     */
+    private final class Worker implements Runnable {
+
+        private LaneExecutor lane;
+
+        private Runnable task;
+
+        private Worker(LaneExecutor lane, Runnable task) {
+            this.lane = lane;
+            this.task = task;
+        }
+
+        @Override
+        public void run() {
+            while (task != null) {
+                boolean completed = false;
+                try {
+                    task.run();
+                    completed = true;
+                } finally {
+                    // Do not take the next task if this one failed or the worker thread is being shut down
+                    boolean proceed = completed && !Thread.currentThread().isInterrupted();
+                    Worker next = null;
+                    lock.lock();
+                    try {
+                        lane.finished();
+                        if (proceed) {
+                            next = next();
+                        }
+                        if (next == null) {
+                            running--;
+                        }
+                    } finally {
+                        lock.unlock();
+                    }
+                    if (next != null) {
+                        lane = next.lane;
+                        task = next.task;
+                    } else {
+                        task = null;
+                        if (!proceed) {
+                            dispatch();
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * The executor of a single lane. Shutting down a lane does not affect the other lanes.
+     */
+    private final class LaneExecutor extends AbstractExecutorService {
+
+        private final String name;
+
+        private final int weight;
+
+        private final int capacity;
+
+        private final Deque<Runnable> queue = new ArrayDeque<>();
+
+        private int credit;
+
+        private int active;
+
+        private boolean shutdown;
+
+        private LaneExecutor(Lane lane) {
+            this.name = lane.getName();
+            this.weight = lane.getWeight();
+            this.capacity = lane.getCapacity();
+        }
+
+        @Override
+        public void execute(Runnable command) {
+            if (command == null) {
+                throw new NullPointerException();
+            }
+            lock.lock();
+            try {
+                if (shutdown) {
+                    throw new RejectedExecutionException("Lane " + name + " has been shut down");
+                }
+                if (queue.size() >= capacity) {
+                    throw new RejectedExecutionException("Lane " + name + " is full: " + capacity + " tasks queued");
+                }
+                queue.add(command);
+            } finally {
+                lock.unlock();
+            }
+            dispatch();
+        }
+
+        /**
+         * Must be called with the lock held.
+         */
+        private void finished() {
+            active--;
+            if (shutdown && active == 0 && queue.isEmpty()) {
+                termination.signalAll();
+            }
+        }
+
+        @Override
+        public void shutdown() {
+            lock.lock();
+            try {
+                shutdown = true;
+                if (active == 0 && queue.isEmpty()) {
+                    termination.signalAll();
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            lock.lock();
+            try {
+                shutdown = true;
+                List<Runnable> pending = new ArrayList<>(queue);
+                queue.clear();
+                credit = 0;
+                if (active == 0) {
+                    termination.signalAll();
+                }
+                return pending;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        @Override
+        public boolean isShutdown() {
+            lock.lock();
+            try {
+                return shutdown;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        @Override
+        public boolean isTerminated() {
+            lock.lock();
+            try {
+                return shutdown && active == 0 && queue.isEmpty();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+            long nanos = unit.toNanos(timeout);
+            lock.lock();
+            try {
+                while (!(shutdown && active == 0 && queue.isEmpty())) {
+                    if (nanos <= 0L) {
+                        return false;
+                    }
+                    nanos = termination.awaitNanos(nanos);
+                }
+                return true;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        @Override
+        public String toString() {
+            return "LaneExecutor [name=" + name + ", weight=" + weight + ", capacity=" + capacity + "]";
+        }
+    }
+
+    /**
+     * The configuration of a delivery lane.
+     */
+    public static final class Lane {
+
+        private final String name;
+
+        private final int weight;
+
+        private final int capacity;
+
+        /**
+         * @param name the name of the lane
+         * @param weight the relative share of the worker threads the lane gets under load
+         * @param capacity the maximum number of queued tasks
+         * @throws IllegalArgumentException if the name is {@code null} or the weight or capacity is not positive
+         */
+        public Lane(String name, int weight, int capacity) {
+            if (name == null) {
+                throw new IllegalArgumentException("Lane name must not be null");
+            }
+            if (weight < 1) {
+                throw new IllegalArgumentException("Lane weight must be positive: " + weight);
+            }
+            if (capacity < 1) {
+                throw new IllegalArgumentException("Lane capacity must be positive: " + capacity);
+            }
+            this.name = name;
+            this.weight = weight;
+            this.capacity = capacity;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public int getWeight() {
+            return weight;
+        }
+
+        public int getCapacity() {
+            return capacity;
+        }
+
+        @Override
+        public String toString() {
+            return "Lane [name=" + name + ", weight=" + weight + ", capacity=" + capacity + "]";
+        }
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.manager.api.helpers;
+
+import java.lang.reflect.Type;
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import jakarta.enterprise.inject.spi.ObserverMethod;
+
+import org.jboss.weld.manager.api.ObserverMetricsListener;
+
+/**
+ * An {@link ObserverMetricsListener} which collects the statistics of each notified observer method: the number of
+ * notifications and failures and histograms of the wait and execution times. Each histogram has a fixed size, see
+ * {@link LatencyHistogram}, so the memory footprint grows with the number of notified observer methods only.
+ *
+ * @see JfrObserverMetricsListener
+ */
+public class ObserverMetricsRecorder implements ObserverMetricsListener {
+
+    private final ConcurrentMap<ObserverMethod<?>, ObserverStatistics> statistics = new ConcurrentHashMap<>();
+
+    /**
+     * @param observer the observer method
+     * @return the statistics of the given observer method or null if it was not notified yet
+     */
+    public ObserverStatistics getStatistics(ObserverMethod<?> observer) {
+        return statistics.get(observer);
+    }
+
+    /**
+     * @return the statistics of all the notified observer methods
+     */
+    public Collection<ObserverStatistics> getStatistics() {
+        return Collections.unmodifiableCollection(statistics.values());
+    }
+
+    /**
+     * Returns the statistics of the observer methods with the highest execution time at the given percentile, e.g. the
+     * observer methods responsible for the tail latency if the percentile is 99.
+     *
+     * @param limit the maximum number of returned statistics
+     * @param percentile the percentile, between 0 and 100
+     * @return the statistics, the slowest observer method first
+     * @throws IllegalArgumentException if the limit is negative or the percentile is not between 0 and 100
+     */
+    public List<ObserverStatistics> getSlowestObservers(int limit, double percentile) {
+        if (limit < 0) {
+            throw new IllegalArgumentException("Limit must not be negative: " + limit);
+        }
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100: " + percentile);
+        }
+        // The histograms are being recorded into concurrently, so each percentile is computed once before sorting
+        List<Map.Entry<Long, ObserverStatistics>> ranked = new ArrayList<>(statistics.size());
+        for (ObserverStatistics stats : statistics.values()) {
+            ranked.add(new SimpleImmutableEntry<>(stats.getExecutionTimes().getValueAtPercentile(percentile), stats));
+        }
+        ranked.sort(Map.Entry.<Long, ObserverStatistics> comparingByKey().reversed());
+        List<ObserverStatistics> slowest = new ArrayList<>(Math.min(limit, ranked.size()));
+        for (int i = 0; i < ranked.size() && i < limit; i++) {
+            slowest.add(ranked.get(i).getValue());
+        }
+        return slowest;
+    }
+
+    @Override
+    public void notificationStarted(ObserverMethod<?> observer, Type eventType, long waitTime) {
+        statistics.computeIfAbsent(observer, ObserverStatistics::new).waitTimes.record(waitTime);
+    }
+
+    @Override
+    public void notificationFinished(ObserverMethod<?> observer, Type eventType, long executionTime, Throwable failure) {
+        ObserverStatistics stats = statistics.computeIfAbsent(observer, ObserverStatistics::new);
+        stats.notifications.increment();
+        if (failure != null) {
+            stats.failures.increment();
+        }
+        stats.executionTimes.record(executionTime);
+    }
+
+    /**
+     * Discards all the collected statistics.
+     */
+    public void reset() {
+        statistics.clear();
+    }
+
+    @Override
+    public void cleanup() {
+        reset();
+    }
+
+    /**
+     * The statistics of a single observer method. All times are in nanoseconds.
+     */
+    public static final class ObserverStatistics {
+
+        private final ObserverMethod<?> observer;
+
+        private final LongAdder notifications = new LongAdder();
+
+        private final LongAdder failures = new LongAdder();
+
+        private final LatencyHistogram waitTimes = new LatencyHistogram();
+
+        private final LatencyHistogram executionTimes = new LatencyHistogram();
+
+        private ObserverStatistics(ObserverMethod<?> observer) {
+            this.observer = observer;
+        }
+
+        /**
+         * @return the observer method
+         */
+        public ObserverMethod<?> getObserverMethod() {
+            return observer;
+        }
+
+        /**
+         * @return the number of finished notifications
+         */
+        public long getNotificationCount() {
+            return notifications.sum();
+        }
+
+        /**
+         * @return the number of notifications which finished with an exception
+         */
+        public long getFailureCount() {
+            return failures.sum();
+        }
+
+        /**
+         * @return the histogram of the times elapsed between firing the event and notifying the observer method
+         */
+        public LatencyHistogram getWaitTimes() {
+            return waitTimes;
+        }
+
+        /**
+         * @return the histogram of the execution times of the observer method
+         */
+        public LatencyHistogram getExecutionTimes() {
+            return executionTimes;
+        }
+
+        @Override
+        public String toString() {
+            return "ObserverStatistics [observer=" + observer + ", notifications=" + getNotificationCount() + ", failures="
+                    + getFailureCount() + ", waitTimes=" + waitTimes + ", executionTimes=" + executionTimes + "]";
+        }
+    }
+}
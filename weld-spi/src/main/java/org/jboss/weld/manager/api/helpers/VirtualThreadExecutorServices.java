@@ -0,0 +1,209 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.manager.api.helpers;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.weld.manager.api.ExecutorServices;
+
+/**
+ * An {@link ExecutorServices} implementation which runs each task in a new virtual thread. Blocking tasks, e.g. asynchronous
+ * observers performing I/O, do not occupy a platform thread while they are blocked.
+ *
+ * <p>
+ * Optionally, the number of tasks running concurrently may be limited. Tasks exceeding the limit are still started in their
+ * own virtual thread but wait for a permit before they are executed.
+ * </p>
+ *
+ * <p>
+ * Virtual threads require Java 21 or newer. Since the API is compiled for an older Java version, the virtual thread executor
+ * is created reflectively. If virtual threads are not available in the current runtime, see {@link #isSupported()}, the
+ * tasks are run in daemon platform threads instead. If the number of concurrently running tasks is limited, at most that
+ * many platform threads are started and the tasks exceeding the limit are queued.
+ * </p>
+ */
+public class VirtualThreadExecutorServices extends AbstractExecutorServices {
+
+    private static final MethodHandle NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR = findVirtualThreadPerTaskExecutor();
+
+    private final ExecutorService taskExecutor;
+
+    private final int maxConcurrency;
+
+    /**
+     * Constructs an instance which does not limit the number of concurrently running tasks.
+     */
+    public VirtualThreadExecutorServices() {
+        this(0);
+    }
+
+    /**
+     * Constructs an instance which limits the number of concurrently running tasks.
+     *
+     * @param maxConcurrency the maximum number of concurrently running tasks, zero or a negative value means no limit
+     */
+    public VirtualThreadExecutorServices(int maxConcurrency) {
+        this.maxConcurrency = Math.max(maxConcurrency, 0);
+        this.taskExecutor = newTaskExecutor(this.maxConcurrency);
+    }
+
+    /**
+     * @return {@code true} if virtual threads are supported in the current runtime, {@code false} if platform threads are used
+     *         instead
+     */
+    public static boolean isSupported() {
+        return NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR != null;
+    }
+
+    @Override
+    public ExecutorService getTaskExecutor() {
+        return taskExecutor;
+    }
+
+    /**
+     * Bootstrap tasks are CPU-bound and the virtual threads are carried by a pool of platform threads sized to the number of
+     * available processors. Therefore, the work is split into as many tasks as there are processors, or into
+     * {@code maxConcurrency} tasks if it is lower.
+     */
+    @Override
+    protected int getThreadPoolSize() {
+        int processors = Runtime.getRuntime().availableProcessors();
+        return maxConcurrency > 0 ? Math.min(processors, maxConcurrency) : processors;
+    }
+
+    @Override
+    public void cleanup() {
+        for (Runnable task : taskExecutor.shutdownNow()) {
+            if (task instanceof Future) {
+                ((Future<?>) task).cancel(false);
+            }
+        }
+        super.cleanup();
+    }
+
+    private static ExecutorService newTaskExecutor(int maxConcurrency) {
+        if (NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR == null) {
+            AtomicInteger threadNumber = new AtomicInteger();
+            ThreadFactory threadFactory = task -> {
+                Thread thread = new Thread(task, "weld-worker-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            };
+            if (maxConcurrency == 0) {
+                return Executors.newCachedThreadPool(threadFactory);
+            }
+            // A platform thread waiting for a permit is not cheap - queue the tasks instead and let idle threads time out
+            ThreadPoolExecutor executor = new ThreadPoolExecutor(maxConcurrency, maxConcurrency, 60L, TimeUnit.SECONDS,
+                    new LinkedBlockingQueue<Runnable>(), threadFactory);
+            executor.allowCoreThreadTimeOut(true);
+            return executor;
+        }
+        ExecutorService executor;
+        try {
+            executor = (ExecutorService) NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR.invokeExact();
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+        return maxConcurrency > 0 ? new BoundedExecutorService(executor, maxConcurrency) : executor;
+    }
+
+    private static MethodHandle findVirtualThreadPerTaskExecutor() {
+        try {
+            return MethodHandles.publicLookup().findStatic(Executors.class, "newVirtualThreadPerTaskExecutor",
+                    MethodType.methodType(ExecutorService.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Limits the number of concurrently running tasks. A task waits for a permit in its own virtual thread, so that the
+     * submitting thread is never blocked.
+     */
+    private static final class BoundedExecutorService extends AbstractExecutorService {
+
+        private final ExecutorService delegate;
+
+        private final Semaphore permits;
+
+        private BoundedExecutorService(ExecutorService delegate, int maxConcurrency) {
+            this.delegate = delegate;
+            this.permits = new Semaphore(maxConcurrency);
+        }
+
+        @Override
+        public void execute(Runnable command) {
+            delegate.execute(() -> {
+                try {
+                    permits.acquire();
+                } catch (InterruptedException e) {
+                    // The executor is being shut down - do not leave the task pending
+                    Thread.currentThread().interrupt();
+                    if (command instanceof Future) {
+                        ((Future<?>) command).cancel(false);
+                    }
+                    return;
+                }
+                try {
+                    command.run();
+                } finally {
+                    permits.release();
+                }
+            });
+        }
+
+        @Override
+        public void shutdown() {
+            delegate.shutdown();
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            return delegate.shutdownNow();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return delegate.isShutdown();
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return delegate.isTerminated();
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+            return delegate.awaitTermination(timeout, unit);
+        }
+    }
+}
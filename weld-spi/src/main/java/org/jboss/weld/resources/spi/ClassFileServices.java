@@ -16,7 +16,12 @@
  */
 package org.jboss.weld.resources.spi;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 import org.jboss.weld.bootstrap.api.BootstrapService;
+import org.jboss.weld.bootstrap.spi.BeanDeploymentArchive;
 
 /**
  * An optional service that provides fast access to Java class metadata without the need to load the given class.
@@ -41,4 +46,44 @@ public interface ClassFileServices extends BootstrapService {
      *         name
      */
     ClassFileInfo getClassFileInfo(String className);
+
+    /**
+     * Obtains Java class metadata for all the classes identified with the specified class names.
+     *
+     * Weld may use this method instead of calling {@link #getClassFileInfo(String)} repeatedly. An implementation is encouraged
+     * to override this method in order to amortize I/O, e.g. by reading the class files of an archive sequentially, and to
+     * parse the class files in parallel, e.g. using {@link org.jboss.weld.manager.api.ExecutorServices#getTaskExecutor()}.
+     *
+     * The default implementation calls {@link #getClassFileInfo(String)} for each class name.
+     *
+     * @param classNames the specified class names
+     * @return the map of class name to class metadata; a class for which the service implementation is not able to obtain
+     *         metadata is not present in the map
+     * @since 7.0
+     */
+    default Map<String, ClassFileInfo> getClassFileInfos(Collection<String> classNames) {
+        Map<String, ClassFileInfo> infos = new LinkedHashMap<String, ClassFileInfo>();
+        for (String className : classNames) {
+            try {
+                infos.put(className, getClassFileInfo(className));
+            } catch (ClassFileInfoException e) {
+                // Weld falls back to reflection for this class
+            }
+        }
+        return infos;
+    }
+
+    /**
+     * Obtains Java class metadata for all the classes known to the specified bean deployment archive, i.e. the classes
+     * returned from {@link BeanDeploymentArchive#getKnownClasses()}.
+     *
+     * @param archive the specified bean deployment archive
+     * @return the map of class name to class metadata; a class for which the service implementation is not able to obtain
+     *         metadata is not present in the map
+     * @see #getClassFileInfos(Collection)
+     * @since 7.0
+     */
+    default Map<String, ClassFileInfo> getClassFileInfos(BeanDeploymentArchive archive) {
+        return getClassFileInfos(archive.getKnownClasses());
+    }
 }
@@ -0,0 +1,81 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.resources.spi.helpers;
+
+import java.util.Collection;
+import java.util.Map;
+
+import org.jboss.weld.bootstrap.spi.BeanDeploymentArchive;
+import org.jboss.weld.resources.spi.ClassFileInfo;
+import org.jboss.weld.resources.spi.ClassFileServices;
+
+/**
+ * An implementation of {@link ClassFileServices} which forwards all its method calls to another {@link ClassFileServices}.
+ * Subclasses should override one or more methods to modify the behavior of the backing {@link ClassFileServices} as desired
+ * per the <a href="http://en.wikipedia.org/wiki/Decorator_pattern">decorator pattern</a>.
+ *
+ */
+public abstract class ForwardingClassFileServices implements ClassFileServices {
+
+    /**
+     * Returns the delegate
+     *
+     * @return delegate
+     */
+    protected abstract ClassFileServices delegate();
+
+    @Override
+    public ClassFileInfo getClassFileInfo(String className) {
+        return delegate().getClassFileInfo(className);
+    }
+
+    @Override
+    public Map<String, ClassFileInfo> getClassFileInfos(Collection<String> classNames) {
+        return delegate().getClassFileInfos(classNames);
+    }
+
+    @Override
+    public Map<String, ClassFileInfo> getClassFileInfos(BeanDeploymentArchive archive) {
+        return delegate().getClassFileInfos(archive);
+    }
+
+    @Override
+    public void cleanupAfterBoot() {
+        delegate().cleanupAfterBoot();
+    }
+
+    @Override
+    public void cleanup() {
+        delegate().cleanup();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return this == obj || delegate().equals(obj);
+    }
+
+    @Override
+    public String toString() {
+        return delegate().toString();
+    }
+
+    @Override
+    public int hashCode() {
+        return delegate().hashCode();
+    }
+
+}
@@ -0,0 +1,524 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.resources.spi.helpers;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.jboss.weld.bootstrap.spi.BeanDeploymentArchive;
+import org.jboss.weld.resources.spi.ClassFileInfo;
+import org.jboss.weld.resources.spi.ClassFileServices;
+
+/**
+ * A {@link ClassFileServices} decorator which persists the {@link ClassFileInfo} obtained from the delegate into a compact
+ * on-disk index and reads it back using a memory-mapped file on subsequent boots.
+ * <p>
+ * An index belongs to a single {@link BeanDeploymentArchive} and is keyed by the archive id and by a content hash supplied by
+ * the integrator. The content hash must change whenever the archive or any class visible to the archive changes. If an index
+ * with a matching key exists, class metadata is answered from the index and the delegate is not consulted. Queries that were
+ * not recorded in the index (e.g. {@link ClassFileInfo#containsAnnotation(Class)} for an annotation type that was not queried
+ * during the previous boot) are forwarded to the delegate and recorded.
+ * <p>
+ * The index is written in {@link #cleanupAfterBoot()} if new metadata was recorded during the bootstrap. The index is a cache -
+ * a missing, corrupted or stale index file is ignored and failing to write the index does not fail the deployment.
+ * <p>
+ * The delegate is not consulted after {@link #cleanupAfterBoot()}. Only the metadata recorded during the bootstrap remains
+ * available, any other query results in an {@link IllegalStateException}.
+ */
+public class IndexedClassFileServices extends ForwardingClassFileServices {
+
+    private static final int MAGIC = 0x57434649;
+
+    private static final int VERSION = 1;
+
+    private static final String INDEX_FILE_SUFFIX = ".idx";
+
+    private static final int FLAG_CDI_CONSTRUCTOR = 1;
+
+    private static final int FLAG_VETOED = 2;
+
+    private static final ClassFileInfo.NestingType[] NESTING_TYPES = ClassFileInfo.NestingType.values();
+
+    private final ClassFileServices delegate;
+
+    private final Path indexFile;
+
+    private final String archiveId;
+
+    private final String contentHash;
+
+    // read-only view of the mapped index file, null if no valid index exists
+    private final ByteBuffer index;
+
+    // class name -> offset of the class record within the index
+    private final Map<String, Integer> offsets;
+
+    private final ConcurrentMap<String, IndexedClassFileInfo> infos;
+
+    private volatile boolean dirty;
+
+    private volatile boolean cleanedUp;
+
+    /**
+     * Creates a new index-backed {@link ClassFileServices} for the given bean deployment archive.
+     *
+     * @param delegate the service used to obtain metadata which is not present in the index
+     * @param indexDirectory the directory the index files are stored in
+     * @param archive the bean deployment archive
+     * @param contentHash the hash of the content of the archive
+     */
+    public IndexedClassFileServices(ClassFileServices delegate, Path indexDirectory, BeanDeploymentArchive archive,
+            String contentHash) {
+        this(delegate, indexDirectory, archive.getId(), contentHash);
+    }
+
+    /**
+     * Creates a new index-backed {@link ClassFileServices}.
+     *
+     * @param delegate the service used to obtain metadata which is not present in the index
+     * @param indexDirectory the directory the index files are stored in
+     * @param archiveId the identifier of the bean deployment archive
+     * @param contentHash the hash of the content of the archive
+     */
+    public IndexedClassFileServices(ClassFileServices delegate, Path indexDirectory, String archiveId, String contentHash) {
+        this.delegate = delegate;
+        this.archiveId = archiveId;
+        this.contentHash = contentHash;
+        this.indexFile = indexDirectory.resolve(fileName(archiveId) + INDEX_FILE_SUFFIX);
+        this.offsets = new HashMap<String, Integer>();
+        this.index = open();
+        this.infos = new ConcurrentHashMap<String, IndexedClassFileInfo>(Math.max(16, offsets.size() * 2));
+    }
+
+    @Override
+    protected ClassFileServices delegate() {
+        return delegate;
+    }
+
+    /**
+     * Returns the path of the index file.
+     *
+     * @return the path of the index file
+     */
+    public Path getIndexFile() {
+        return indexFile;
+    }
+
+    /**
+     * Indicates whether a valid index was found for this archive and content hash.
+     *
+     * @return true if an index was loaded, false otherwise
+     */
+    public boolean isIndexLoaded() {
+        return index != null;
+    }
+
+    @Override
+    public ClassFileInfo getClassFileInfo(String className) {
+        IndexedClassFileInfo info = lookup(className);
+        if (info == null) {
+            info = register(className, new IndexedClassFileInfo(this, checkedDelegate(className).getClassFileInfo(className)));
+        }
+        return info;
+    }
+
+    @Override
+    public Map<String, ClassFileInfo> getClassFileInfos(Collection<String> classNames) {
+        Map<String, ClassFileInfo> result = new LinkedHashMap<String, ClassFileInfo>();
+        List<String> missing = new ArrayList<String>();
+        for (String className : classNames) {
+            IndexedClassFileInfo info = lookup(className);
+            if (info != null) {
+                result.put(className, info);
+            } else {
+                missing.add(className);
+            }
+        }
+        if (!missing.isEmpty()) {
+            // Let the delegate process all the classes which are not indexed at once
+            for (Map.Entry<String, ClassFileInfo> entry : checkedDelegate(missing).getClassFileInfos(missing).entrySet()) {
+                result.put(entry.getKey(), register(entry.getKey(), new IndexedClassFileInfo(this, entry.getValue())));
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public Map<String, ClassFileInfo> getClassFileInfos(BeanDeploymentArchive archive) {
+        return getClassFileInfos(archive.getKnownClasses());
+    }
+
+    @Override
+    public void cleanupAfterBoot() {
+        cleanedUp = true;
+        if (dirty) {
+            write();
+        }
+        super.cleanupAfterBoot();
+    }
+
+    private IndexedClassFileInfo lookup(String className) {
+        IndexedClassFileInfo info = infos.get(className);
+        if (info == null) {
+            Integer offset = offsets.get(className);
+            if (offset != null) {
+                info = read(className, offset);
+                if (info != null) {
+                    IndexedClassFileInfo previous = infos.putIfAbsent(className, info);
+                    if (previous != null) {
+                        info = previous;
+                    }
+                }
+            }
+        }
+        return info;
+    }
+
+    private ClassFileServices checkedDelegate(Object classNames) {
+        if (cleanedUp) {
+            throw new IllegalStateException("Metadata of " + classNames + " was not recorded in the index of " + archiveId
+                    + " and the delegate is not available after cleanupAfterBoot()");
+        }
+        return delegate;
+    }
+
+    private IndexedClassFileInfo register(String className, IndexedClassFileInfo info) {
+        dirty = true;
+        IndexedClassFileInfo previous = infos.putIfAbsent(className, info);
+        return previous != null ? previous : info;
+    }
+
+    private ByteBuffer open() {
+        if (!Files.isRegularFile(indexFile)) {
+            return null;
+        }
+        try (FileChannel channel = FileChannel.open(indexFile, StandardOpenOption.READ)) {
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION || !archiveId.equals(readString(buffer))
+                    || !contentHash.equals(readString(buffer))) {
+                return null;
+            }
+            int count = buffer.getInt();
+            for (int i = 0; i < count; i++) {
+                String className = readString(buffer);
+                int length = buffer.getInt();
+                offsets.put(className, buffer.position());
+                buffer.position(buffer.position() + length);
+            }
+            return buffer.asReadOnlyBuffer();
+        } catch (IOException | RuntimeException e) {
+            // Corrupted or unreadable index - it will be rebuilt
+            offsets.clear();
+            return null;
+        }
+    }
+
+    private IndexedClassFileInfo read(String className, int offset) {
+        try {
+            return readRecord(className, offset);
+        } catch (RuntimeException e) {
+            // Corrupted record - fall back to the delegate
+            return null;
+        }
+    }
+
+    private IndexedClassFileInfo readRecord(String className, int offset) {
+        ByteBuffer buffer = index.duplicate();
+        buffer.position(offset);
+        String superclassName = readString(buffer);
+        int modifiers = buffer.getInt();
+        byte flags = buffer.get();
+        ClassFileInfo.NestingType nestingType = NESTING_TYPES[buffer.get()];
+        int queryCount = buffer.getInt();
+        ConcurrentMap<String, Byte> queries = new ConcurrentHashMap<String, Byte>(Math.max(16, queryCount * 2));
+        for (int i = 0; i < queryCount; i++) {
+            String typeName = readString(buffer);
+            queries.put(typeName, buffer.get());
+        }
+        return new IndexedClassFileInfo(this, className, superclassName, modifiers, (flags & FLAG_CDI_CONSTRUCTOR) != 0,
+                (flags & FLAG_VETOED) != 0, nestingType, queries);
+    }
+
+    private void write() {
+        // Classes present in the existing index but not requested during this boot are retained
+        for (Map.Entry<String, Integer> entry : offsets.entrySet()) {
+            if (!infos.containsKey(entry.getKey())) {
+                IndexedClassFileInfo info = read(entry.getKey(), entry.getValue());
+                if (info != null) {
+                    infos.putIfAbsent(entry.getKey(), info);
+                }
+            }
+        }
+        Path tmp = null;
+        try {
+            Files.createDirectories(indexFile.getParent());
+            tmp = Files.createTempFile(indexFile.getParent(), indexFile.getFileName().toString(), ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                writeString(out, archiveId);
+                writeString(out, contentHash);
+                List<IndexedClassFileInfo> snapshot = new ArrayList<IndexedClassFileInfo>(infos.values());
+                out.writeInt(snapshot.size());
+                ByteArrayOutputStream recordBytes = new ByteArrayOutputStream();
+                DataOutputStream record = new DataOutputStream(recordBytes);
+                for (IndexedClassFileInfo info : snapshot) {
+                    recordBytes.reset();
+                    info.write(record);
+                    record.flush();
+                    writeString(out, info.className);
+                    out.writeInt(recordBytes.size());
+                    recordBytes.writeTo(out);
+                }
+            }
+            Files.move(tmp, indexFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            dirty = false;
+        } catch (IOException | RuntimeException e) {
+            // The index is only a cache - ignore
+            if (tmp != null) {
+                try {
+                    Files.deleteIfExists(tmp);
+                } catch (IOException ignored) {
+                    // ignored
+                }
+            }
+        }
+    }
+
+    /**
+     * Archive ids are arbitrary strings and two ids must not share an index file, hence the SHA-256 hash of the id.
+     */
+    private static String fileName(String archiveId) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        StringBuilder builder = new StringBuilder(64);
+        for (byte b : digest.digest(archiveId.getBytes(StandardCharsets.UTF_8))) {
+            builder.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return builder.toString();
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0) {
+            return null;
+        }
+        if (length > buffer.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * {@link ClassFileInfo} backed either by an index record or by the {@link ClassFileInfo} obtained from the delegate.
+     * Results of the queries which take a type argument are recorded per type name as a bit set - for each query kind one bit
+     * indicates whether the result is known and another bit holds the result.
+     */
+    private static final class IndexedClassFileInfo implements ClassFileInfo {
+
+        private static final int ANNOTATION_DECLARED = 0;
+        private static final int CONTAINS_ANNOTATION = 1;
+        private static final int ASSIGNABLE_FROM = 2;
+        private static final int ASSIGNABLE_TO = 3;
+
+        private final IndexedClassFileServices services;
+
+        private final String className;
+
+        private final String superclassName;
+
+        private final int modifiers;
+
+        private final boolean cdiConstructor;
+
+        private final boolean vetoed;
+
+        private final NestingType nestingType;
+
+        private final ConcurrentMap<String, Byte> queries;
+
+        private volatile ClassFileInfo delegate;
+
+        IndexedClassFileInfo(IndexedClassFileServices services, ClassFileInfo delegate) {
+            this(services, delegate.getClassName(), delegate.getSuperclassName(), delegate.getModifiers(),
+                    delegate.hasCdiConstructor(), delegate.isVetoed(), delegate.getNestingType(),
+                    new ConcurrentHashMap<String, Byte>());
+            this.delegate = delegate;
+        }
+
+        IndexedClassFileInfo(IndexedClassFileServices services, String className, String superclassName, int modifiers,
+                boolean cdiConstructor, boolean vetoed, NestingType nestingType, ConcurrentMap<String, Byte> queries) {
+            this.services = services;
+            this.className = className;
+            this.superclassName = superclassName;
+            this.modifiers = modifiers;
+            this.cdiConstructor = cdiConstructor;
+            this.vetoed = vetoed;
+            this.nestingType = nestingType;
+            this.queries = queries;
+        }
+
+        @Override
+        public String getClassName() {
+            return className;
+        }
+
+        @Override
+        public String getSuperclassName() {
+            return superclassName;
+        }
+
+        @Override
+        public boolean isAnnotationDeclared(Class<? extends Annotation> annotationType) {
+            return query(ANNOTATION_DECLARED, annotationType);
+        }
+
+        @Override
+        public boolean containsAnnotation(Class<? extends Annotation> annotationType) {
+            return query(CONTAINS_ANNOTATION, annotationType);
+        }
+
+        @Override
+        public int getModifiers() {
+            return modifiers;
+        }
+
+        @Override
+        public boolean hasCdiConstructor() {
+            return cdiConstructor;
+        }
+
+        @Override
+        public boolean isAssignableFrom(Class<?> javaClass) {
+            return query(ASSIGNABLE_FROM, javaClass);
+        }
+
+        @Override
+        public boolean isAssignableTo(Class<?> javaClass) {
+            return query(ASSIGNABLE_TO, javaClass);
+        }
+
+        @Override
+        public boolean isVetoed() {
+            return vetoed;
+        }
+
+        @Override
+        public NestingType getNestingType() {
+            return nestingType;
+        }
+
+        @SuppressWarnings("unchecked")
+        private boolean query(int kind, Class<?> type) {
+            int knownBit = 1 << (kind * 2);
+            int valueBit = knownBit << 1;
+            Byte bits = queries.get(type.getName());
+            if (bits != null && (bits & knownBit) != 0) {
+                return (bits & valueBit) != 0;
+            }
+            if (services.cleanedUp) {
+                throw new IllegalStateException("Query for " + type.getName() + " on " + className
+                        + " was not recorded in the index of " + services.archiveId
+                        + " and the delegate is not available after cleanupAfterBoot()");
+            }
+            ClassFileInfo delegate = delegate();
+            boolean result;
+            switch (kind) {
+                case ANNOTATION_DECLARED:
+                    result = delegate.isAnnotationDeclared((Class<? extends Annotation>) type);
+                    break;
+                case CONTAINS_ANNOTATION:
+                    result = delegate.containsAnnotation((Class<? extends Annotation>) type);
+                    break;
+                case ASSIGNABLE_FROM:
+                    result = delegate.isAssignableFrom(type);
+                    break;
+                default:
+                    result = delegate.isAssignableTo(type);
+                    break;
+            }
+            byte recorded = (byte) (result ? knownBit | valueBit : knownBit);
+            queries.merge(type.getName(), recorded, (a, b) -> (byte) (a | b));
+            services.dirty = true;
+            return result;
+        }
+
+        private ClassFileInfo delegate() {
+            ClassFileInfo delegate = this.delegate;
+            if (delegate == null) {
+                delegate = services.checkedDelegate(className).getClassFileInfo(className);
+                this.delegate = delegate;
+            }
+            return delegate;
+        }
+
+        private void write(DataOutputStream out) throws IOException {
+            writeString(out, superclassName);
+            out.writeInt(modifiers);
+            out.writeByte((cdiConstructor ? FLAG_CDI_CONSTRUCTOR : 0) | (vetoed ? FLAG_VETOED : 0));
+            out.writeByte(nestingType.ordinal());
+            Map<String, Byte> snapshot = new HashMap<String, Byte>(queries);
+            out.writeInt(snapshot.size());
+            for (Map.Entry<String, Byte> entry : snapshot.entrySet()) {
+                writeString(out, entry.getKey());
+                out.writeByte(entry.getValue());
+            }
+        }
+
+        @Override
+        public String toString() {
+            return className;
+        }
+    }
+}
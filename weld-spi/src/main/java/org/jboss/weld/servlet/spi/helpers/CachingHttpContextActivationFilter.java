@@ -0,0 +1,212 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.servlet.spi.helpers;
+
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+import org.jboss.weld.servlet.spi.HttpContextActivationFilter;
+
+/**
+ * An {@link HttpContextActivationFilter} decorator which memoizes the decisions of another filter. A bounded cache maps
+ * request URIs to the decisions so that repeated requests for the same path are not evaluated again. Moreover, a decision
+ * made by the delegate is stored as a request attribute so that the delegate is consulted at most once per request and path,
+ * e.g. if the filter is consulted again during a forward, an include or an async dispatch after the path was evicted.
+ *
+ * <p>
+ * The cache is a {@link ConcurrentHashMap}, so that lookups do not block each other. If the cache grows over the maximum
+ * size, a single thread evicts the paths using the CLOCK algorithm, an approximation of LRU: a path which was looked up since
+ * the last pass is kept for another pass, the other paths are evicted. The cache may temporarily hold a few more paths than
+ * the maximum size while another thread is adding paths.
+ * </p>
+ *
+ * <p>
+ * This decorator may only be used if the decision of the delegate depends solely on the request URI and the context path.
+ * </p>
+ *
+ * @see PathPatternHttpContextActivationFilter
+ * @see RegexHttpContextActivationFilter
+ */
+public class CachingHttpContextActivationFilter implements HttpContextActivationFilter {
+
+    /**
+     * The default maximum number of cached paths
+     */
+    public static final int DEFAULT_MAX_SIZE = 1024;
+
+    private static final String DECISION_ATTRIBUTE_NAME = CachingHttpContextActivationFilter.class.getName() + ".DECISION";
+
+    private final HttpContextActivationFilter delegate;
+
+    private final int maxSize;
+
+    private final ConcurrentMap<String, Decision> cache;
+
+    // Guards the clock hand
+    private final ReentrantLock evictionLock;
+
+    private Iterator<Decision> clockHand;
+
+    private final LongAdder hits;
+
+    private final LongAdder misses;
+
+    /**
+     * Constructs an instance which caches at most {@link #DEFAULT_MAX_SIZE} paths
+     *
+     * @param delegate the filter whose decisions are cached
+     */
+    public CachingHttpContextActivationFilter(HttpContextActivationFilter delegate) {
+        this(delegate, DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * Constructs an instance which caches at most the given number of paths
+     *
+     * @param delegate the filter whose decisions are cached
+     * @param maxSize the maximum number of cached paths
+     */
+    public CachingHttpContextActivationFilter(HttpContextActivationFilter delegate, int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("The maximum size must be positive: " + maxSize);
+        }
+        this.delegate = delegate;
+        this.maxSize = maxSize;
+        this.cache = new ConcurrentHashMap<String, Decision>();
+        this.evictionLock = new ReentrantLock();
+        this.hits = new LongAdder();
+        this.misses = new LongAdder();
+    }
+
+    @Override
+    public boolean accepts(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        Decision decision = cache.get(uri);
+        if (decision == null) {
+            Object attribute = request.getAttribute(DECISION_ATTRIBUTE_NAME);
+            if (attribute instanceof Decision && ((Decision) attribute).uri.equals(uri)) {
+                decision = (Decision) attribute;
+            }
+        }
+        if (decision != null) {
+            hits.increment();
+            if (!decision.referenced) {
+                // Only write if needed so that a hot path does not keep invalidating the cache line
+                decision.referenced = true;
+            }
+            return decision.accepted;
+        }
+        misses.increment();
+        decision = new Decision(uri, delegate.accepts(request));
+        request.setAttribute(DECISION_ATTRIBUTE_NAME, decision);
+        if (cache.put(uri, decision) == null && cache.size() > maxSize) {
+            evict();
+        }
+        return decision.accepted;
+    }
+
+    private void evict() {
+        if (!evictionLock.tryLock()) {
+            // Another thread is already evicting
+            return;
+        }
+        try {
+            // Each pass clears the reference bits, so at most two passes are needed
+            int budget = 2 * cache.size() + 1;
+            while (cache.size() > maxSize && budget-- > 0) {
+                if (clockHand == null || !clockHand.hasNext()) {
+                    clockHand = cache.values().iterator();
+                    if (!clockHand.hasNext()) {
+                        return;
+                    }
+                }
+                Decision decision = clockHand.next();
+                if (decision.referenced) {
+                    decision.referenced = false;
+                } else {
+                    cache.remove(decision.uri, decision);
+                }
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * @return the number of decisions answered from the cache or the request attribute
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * @return the number of decisions for which the delegate was consulted
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * @return the number of cached paths
+     */
+    public int getSize() {
+        return cache.size();
+    }
+
+    /**
+     * Removes all the cached paths and resets the counters.
+     */
+    public void clear() {
+        cache.clear();
+        hits.reset();
+        misses.reset();
+    }
+
+    @Override
+    public void cleanup() {
+        clear();
+        delegate.cleanup();
+    }
+
+    @Override
+    public String toString() {
+        return "CachingHttpContextActivationFilter [delegate=" + delegate + ", hits=" + hits + ", misses=" + misses + "]";
+    }
+
+    /**
+     * A cached decision, also stored as a request attribute.
+     */
+    private static final class Decision {
+
+        private final String uri;
+
+        private final boolean accepted;
+
+        // The reference bit of the CLOCK algorithm
+        private volatile boolean referenced;
+
+        private Decision(String uri, boolean accepted) {
+            this.uri = uri;
+            this.accepted = accepted;
+        }
+    }
+}
@@ -0,0 +1,292 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.servlet.spi.helpers;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+import org.jboss.weld.servlet.spi.HttpContextActivationFilter;
+
+/**
+ * A helper implementation of {@link HttpContextActivationFilter} that accepts every request whose path within the application
+ * matches one of predefined Ant/servlet-style path patterns. The following patterns are supported:
+ *
+ * <ul>
+ * <li><code>/foo/bar</code> - the exact path,</li>
+ * <li><code>/foo/*</code> and <code>/foo/**</code> - the path <code>/foo</code> and all the paths below it, <code>/*</code>
+ * and <code>/**</code> match every path,</li>
+ * <li><code>*.jsf</code> and <code>**&#47;*.jsf</code> - all the paths ending with <code>.jsf</code>,</li>
+ * <li><code>**&#47;foo.jsf</code> - all the paths ending with <code>/foo.jsf</code>,</li>
+ * <li>any other pattern containing the <code>?</code> (one character except <code>/</code>), <code>*</code> (zero or more
+ * characters except <code>/</code>) or <code>**</code> (zero or more path segments) wildcards, e.g.
+ * <code>/foo/*&#47;bar/*.jsf</code>,</li>
+ * <li>a regular expression - a pattern prefixed with <code>regex:</code> or containing any of the <code>\()[]{}|+^$</code>
+ * characters.</li>
+ * </ul>
+ *
+ * <p>
+ * The exact and prefix patterns are compiled into a prefix trie and the suffix patterns into a suffix trie. Both are matched
+ * against the request URI starting at the end of the context path, so that no substring is created for a request. Each
+ * regular expression is compiled separately and matched against a region of the request URI.
+ * </p>
+ *
+ * @see RegexHttpContextActivationFilter
+ */
+public class PathPatternHttpContextActivationFilter implements HttpContextActivationFilter {
+
+    private static final String REGEX_PREFIX = "regex:";
+
+    private static final String REGEX_CHARACTERS = "\\()[]{}|+^$";
+
+    private final Node prefixes;
+
+    private final Node suffixes;
+
+    private final String[] wildcardPatterns;
+
+    private final Pattern[] regexes;
+
+    /**
+     * Constructs an instance using provided path patterns
+     *
+     * @param patterns path patterns
+     */
+    public PathPatternHttpContextActivationFilter(String... patterns) {
+        this(Arrays.asList(patterns));
+    }
+
+    /**
+     * Constructs an instance using provided path patterns
+     *
+     * @param patterns path patterns
+     */
+    public PathPatternHttpContextActivationFilter(Collection<String> patterns) {
+        NodeBuilder prefixes = new NodeBuilder();
+        NodeBuilder suffixes = new NodeBuilder();
+        List<String> wildcardPatterns = new ArrayList<String>();
+        List<Pattern> regexes = new ArrayList<Pattern>();
+        for (String pattern : patterns) {
+            if (pattern.startsWith(REGEX_PREFIX) || isRegex(pattern)) {
+                regexes.add(
+                        Pattern.compile(pattern.startsWith(REGEX_PREFIX) ? pattern.substring(REGEX_PREFIX.length()) : pattern));
+            } else if (pattern.endsWith("/**") && !hasWildcard(pattern, 0, pattern.length() - 3)) {
+                prefixes.add(pattern.substring(0, pattern.length() - 3), false, Node.PREFIX);
+            } else if (pattern.endsWith("/*") && !hasWildcard(pattern, 0, pattern.length() - 2)) {
+                prefixes.add(pattern.substring(0, pattern.length() - 2), false, Node.PREFIX);
+            } else if (pattern.startsWith("**/*") && !hasWildcard(pattern, 4, pattern.length())) {
+                suffixes.add(pattern.substring(4), true, Node.SUFFIX);
+            } else if (pattern.startsWith("**/") && !hasWildcard(pattern, 3, pattern.length())) {
+                suffixes.add(pattern.substring(2), true, Node.SUFFIX);
+            } else if (pattern.startsWith("*") && !hasWildcard(pattern, 1, pattern.length()) && pattern.indexOf('/') < 0) {
+                suffixes.add(pattern.substring(1), true, Node.SUFFIX);
+            } else if (!hasWildcard(pattern, 0, pattern.length())) {
+                prefixes.add(pattern, false, Node.EXACT);
+            } else {
+                wildcardPatterns.add(pattern);
+            }
+        }
+        this.prefixes = prefixes.build();
+        this.suffixes = suffixes.build();
+        this.wildcardPatterns = wildcardPatterns.toArray(new String[0]);
+        this.regexes = regexes.toArray(new Pattern[0]);
+    }
+
+    @Override
+    public boolean accepts(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        int offset = request.getContextPath().length();
+        if (prefixes.matchesPrefix(uri, offset) || suffixes.matchesSuffix(uri, offset)) {
+            return true;
+        }
+        for (String pattern : wildcardPatterns) {
+            if (matches(pattern, 0, uri, offset)) {
+                return true;
+            }
+        }
+        for (Pattern regex : regexes) {
+            if (regex.matcher(uri).region(offset, uri.length()).matches()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void cleanup() {
+    }
+
+    private static boolean isRegex(String pattern) {
+        for (int i = 0; i < pattern.length(); i++) {
+            if (REGEX_CHARACTERS.indexOf(pattern.charAt(i)) >= 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean hasWildcard(String pattern, int start, int end) {
+        for (int i = start; i < end; i++) {
+            char c = pattern.charAt(i);
+            if (c == '*' || c == '?') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Matches the pattern starting at the given pattern index against the path starting at the given path index.
+     */
+    static boolean matches(String pattern, int patternIndex, String path, int pathIndex) {
+        int patternLength = pattern.length();
+        int pathLength = path.length();
+        while (patternIndex < patternLength) {
+            char c = pattern.charAt(patternIndex);
+            if (c == '*') {
+                if (patternIndex + 1 < patternLength && pattern.charAt(patternIndex + 1) == '*') {
+                    // ** matches zero or more path segments, **/ may match nothing at all
+                    int next = patternIndex + 2;
+                    if (next < patternLength && pattern.charAt(next) == '/' && matches(pattern, next + 1, path, pathIndex)) {
+                        return true;
+                    }
+                    for (int i = pathIndex; i <= pathLength; i++) {
+                        if (matches(pattern, next, path, i)) {
+                            return true;
+                        }
+                    }
+                    return false;
+                }
+                // * matches zero or more characters within a path segment
+                for (int i = pathIndex; i <= pathLength; i++) {
+                    if (matches(pattern, patternIndex + 1, path, i)) {
+                        return true;
+                    }
+                    if (i < pathLength && path.charAt(i) == '/') {
+                        return false;
+                    }
+                }
+                return false;
+            }
+            if (pathIndex == pathLength) {
+                return false;
+            }
+            char p = path.charAt(pathIndex);
+            if (c == '?' ? p == '/' : c != p) {
+                return false;
+            }
+            patternIndex++;
+            pathIndex++;
+        }
+        return pathIndex == pathLength;
+    }
+
+    private static final class NodeBuilder {
+
+        private final Map<Character, NodeBuilder> children = new TreeMap<Character, NodeBuilder>();
+
+        private byte flags;
+
+        void add(String key, boolean reverse, byte flag) {
+            NodeBuilder node = this;
+            for (int i = 0; i < key.length(); i++) {
+                char c = key.charAt(reverse ? key.length() - 1 - i : i);
+                node = node.children.computeIfAbsent(c, k -> new NodeBuilder());
+            }
+            node.flags |= flag;
+        }
+
+        Node build() {
+            char[] keys = new char[children.size()];
+            Node[] nodes = new Node[children.size()];
+            int i = 0;
+            for (Map.Entry<Character, NodeBuilder> entry : children.entrySet()) {
+                keys[i] = entry.getKey();
+                nodes[i++] = entry.getValue().build();
+            }
+            return new Node(keys, nodes, flags);
+        }
+    }
+
+    /**
+     * An immutable trie node. The children are sorted by their key.
+     */
+    private static final class Node {
+
+        static final byte EXACT = 1;
+
+        static final byte PREFIX = 2;
+
+        static final byte SUFFIX = 4;
+
+        private final char[] keys;
+
+        private final Node[] children;
+
+        private final byte flags;
+
+        private Node(char[] keys, Node[] children, byte flags) {
+            this.keys = keys;
+            this.children = children;
+            this.flags = flags;
+        }
+
+        private Node child(char c) {
+            int index = Arrays.binarySearch(keys, c);
+            return index >= 0 ? children[index] : null;
+        }
+
+        boolean matchesPrefix(String path, int offset) {
+            Node node = this;
+            int length = path.length();
+            for (int i = offset;; i++) {
+                if ((node.flags & PREFIX) != 0 && (i == length || path.charAt(i) == '/')) {
+                    return true;
+                }
+                if (i == length) {
+                    return (node.flags & EXACT) != 0;
+                }
+                node = node.child(path.charAt(i));
+                if (node == null) {
+                    return false;
+                }
+            }
+        }
+
+        boolean matchesSuffix(String path, int offset) {
+            Node node = this;
+            for (int i = path.length() - 1;; i--) {
+                if ((node.flags & SUFFIX) != 0) {
+                    return true;
+                }
+                if (i < offset) {
+                    return false;
+                }
+                node = node.child(path.charAt(i));
+                if (node == null) {
+                    return false;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.bootstrap.api.test;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.naming.Context;
+
+import jakarta.annotation.Resource;
+import jakarta.enterprise.inject.spi.Annotated;
+import jakarta.enterprise.inject.spi.InjectionPoint;
+
+import org.jboss.weld.injection.spi.ResourceReferenceFactory;
+import org.jboss.weld.injection.spi.helpers.AbstractResourceServices;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class AbstractResourceServicesTest {
+
+    @Resource(lookup = "java:global/shared")
+    Object shared;
+
+    @Resource(lookup = "java:global/unshareable", shareable = false)
+    Object unshareable;
+
+    @Resource(lookup = "java:global/other")
+    Object other;
+
+    @Test
+    public void testResourcesAreNotCachedByDefault() throws Exception {
+        CountingResourceServices services = new CountingResourceServices(false);
+        ResourceReferenceFactory<Object> factory = services.registerResourceInjectionPoint(injectionPoint("shared"));
+        Assert.assertNotSame(factory.createResource().getInstance(), factory.createResource().getInstance());
+        Assert.assertEquals(services.lookups.get(), 2);
+    }
+
+    @Test
+    public void testCacheHitAndMiss() throws Exception {
+        CountingResourceServices services = new CountingResourceServices(true);
+        ResourceReferenceFactory<Object> factory = services.registerResourceInjectionPoint(injectionPoint("shared"));
+        Object resource = factory.createResource().getInstance();
+        Assert.assertEquals(services.lookups.get(), 1);
+        Assert.assertSame(factory.createResource().getInstance(), resource);
+        // Another injection point of the same resource shares the cached instance
+        Assert.assertSame(services.registerResourceInjectionPoint(injectionPoint("shared")).createResource().getInstance(),
+                resource);
+        Assert.assertSame(services.registerResourceInjectionPoint(null, "java:global/shared").createResource().getInstance(),
+                resource);
+        Assert.assertEquals(services.lookups.get(), 1);
+        // A different resource is a cache miss
+        Assert.assertNotSame(services.registerResourceInjectionPoint(injectionPoint("other")).createResource().getInstance(),
+                resource);
+        Assert.assertEquals(services.lookups.get(), 2);
+    }
+
+    @Test
+    public void testInvalidateResource() throws Exception {
+        CountingResourceServices services = new CountingResourceServices(true);
+        ResourceReferenceFactory<Object> shared = services.registerResourceInjectionPoint(injectionPoint("shared"));
+        ResourceReferenceFactory<Object> other = services.registerResourceInjectionPoint(injectionPoint("other"));
+        Object sharedResource = shared.createResource().getInstance();
+        Object otherResource = other.createResource().getInstance();
+
+        services.invalidateResource("java:global/shared");
+        Assert.assertNotSame(shared.createResource().getInstance(), sharedResource);
+        Assert.assertSame(other.createResource().getInstance(), otherResource);
+        Assert.assertEquals(services.lookups.get(), 3);
+    }
+
+    @Test
+    public void testInvalidateResources() throws Exception {
+        CountingResourceServices services = new CountingResourceServices(true);
+        ResourceReferenceFactory<Object> shared = services.registerResourceInjectionPoint(injectionPoint("shared"));
+        ResourceReferenceFactory<Object> other = services.registerResourceInjectionPoint(injectionPoint("other"));
+        Object sharedResource = shared.createResource().getInstance();
+        Object otherResource = other.createResource().getInstance();
+
+        services.invalidateResources();
+        Assert.assertNotSame(shared.createResource().getInstance(), sharedResource);
+        Assert.assertNotSame(other.createResource().getInstance(), otherResource);
+        Assert.assertEquals(services.lookups.get(), 4);
+
+        services.cleanup();
+        shared.createResource();
+        Assert.assertEquals(services.lookups.get(), 5);
+    }
+
+    @Test
+    public void testUnshareableResourceIsNeverCached() throws Exception {
+        CountingResourceServices services = new CountingResourceServices(true);
+        ResourceReferenceFactory<Object> factory = services.registerResourceInjectionPoint(injectionPoint("unshareable"));
+        Assert.assertNotSame(factory.createResource().getInstance(), factory.createResource().getInstance());
+        Assert.assertEquals(services.lookups.get(), 2);
+        // The unshareable injection point does not populate the cache either
+        Assert.assertEquals(services.registerResourceInjectionPoint(null, "java:global/unshareable").createResource()
+                .getInstance().toString(), "java:global/unshareable#3");
+    }
+
+    private static InjectionPoint injectionPoint(String fieldName) throws NoSuchFieldException {
+        Field field = AbstractResourceServicesTest.class.getDeclaredField(fieldName);
+        Annotated annotated = (Annotated) Proxy.newProxyInstance(Annotated.class.getClassLoader(),
+                new Class<?>[] { Annotated.class }, (proxy, method, args) -> {
+                    if (method.getName().equals("getAnnotation")) {
+                        return field.getAnnotation((Class) args[0]);
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+        return (InjectionPoint) Proxy.newProxyInstance(InjectionPoint.class.getClassLoader(),
+                new Class<?>[] { InjectionPoint.class }, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "getAnnotated":
+                            return annotated;
+                        case "getMember":
+                            return field;
+                        case "toString":
+                            return field.toString();
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+    }
+
+    /**
+     * Each lookup returns a new object whose string representation is the name and the number of the lookup.
+     */
+    private static class CountingResourceServices extends AbstractResourceServices {
+
+        private final AtomicInteger lookups = new AtomicInteger();
+
+        private final boolean cachingEnabled;
+
+        private final Context context = (Context) Proxy.newProxyInstance(Context.class.getClassLoader(),
+                new Class<?>[] { Context.class }, (proxy, method, args) -> {
+                    if (method.getName().equals("lookup") && args[0] instanceof String) {
+                        String resource = args[0] + "#" + lookups.incrementAndGet();
+                        return new Object() {
+
+                            @Override
+                            public String toString() {
+                                return resource;
+                            }
+                        };
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+
+        CountingResourceServices(boolean cachingEnabled) {
+            this.cachingEnabled = cachingEnabled;
+        }
+
+        @Override
+        protected Context getContext() {
+            return context;
+        }
+
+        @Override
+        protected boolean isResourceCachingEnabled(String name) {
+            return cachingEnabled;
+        }
+    }
+}
@@ -0,0 +1,440 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.bootstrap.api.test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+
+import org.jboss.weld.bootstrap.spi.BeanDiscoveryMode;
+import org.jboss.weld.bootstrap.spi.BeansXml;
+import org.jboss.weld.bootstrap.spi.ClassAvailableActivation;
+import org.jboss.weld.bootstrap.spi.Filter;
+import org.jboss.weld.bootstrap.spi.Metadata;
+import org.jboss.weld.bootstrap.spi.Scanning;
+import org.jboss.weld.bootstrap.spi.SystemPropertyActivation;
+import org.jboss.weld.bootstrap.spi.helpers.BeansXmlCache;
+import org.jboss.weld.bootstrap.spi.helpers.MetadataImpl;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+public class BeansXmlCacheTest {
+
+    private static final String NAMESPACES = "xmlns=\"https://jakarta.ee/xml/ns/jakartaee\""
+            + " xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\""
+            + " xsi:schemaLocation=\"https://jakarta.ee/xml/ns/jakartaee https://jakarta.ee/xml/ns/jakartaee/beans_4_0.xsd\"";
+
+    private static final String DECLARATION = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n";
+
+    @Test
+    public void testDiscoveryModes() throws Exception {
+        for (BeanDiscoveryMode mode : BeanDiscoveryMode.values()) {
+            String value = mode.name().toLowerCase(Locale.ROOT);
+            assertFastPath("<beans bean-discovery-mode=\"" + value + "\"/>");
+            assertFastPath("<beans " + NAMESPACES + " version=\"4.0\" bean-discovery-mode=\"" + value + "\">\n</beans>");
+        }
+    }
+
+    @Test
+    public void testQuotes() throws Exception {
+        assertFastPath("<beans bean-discovery-mode='all'/>");
+        assertFastPath("<beans version='4.0' bean-discovery-mode=\"annotated\"></beans>");
+        assertFastPath("<beans bean-discovery-mode = 'none' version = \"4.0\" />");
+    }
+
+    @Test
+    public void testComments() throws Exception {
+        assertFastPath("<!-- header -->\n<beans bean-discovery-mode=\"all\">\n<!-- <alternatives/> -->\n</beans>\n"
+                + "<!-- end -->");
+        assertFastPath(DECLARATION + "<!--\n multi-line\n comment\n-->\n<beans bean-discovery-mode=\"annotated\"/>");
+    }
+
+    @Test
+    public void testXmlDeclarationAndByteOrderMark() throws Exception {
+        String bom = "\uFEFF";
+        assertFastPath(DECLARATION + "<beans " + NAMESPACES + " bean-discovery-mode=\"all\" version=\"4.0\"/>");
+        assertFastPath(bom + DECLARATION + "<beans bean-discovery-mode=\"all\"/>");
+        assertFastPath(bom + "<beans bean-discovery-mode=\"annotated\"></beans>");
+    }
+
+    @Test
+    public void testEmptyDescriptor() throws Exception {
+        assertFastPath("", BeanDiscoveryMode.ALL);
+        assertParsed("", null);
+    }
+
+    @Test
+    public void testDescriptorWithContentIsParsed() throws Exception {
+        assertParsed("<beans bean-discovery-mode=\"all\"><alternatives><class>com.acme.Foo</class>"
+                + "<stereotype>com.acme.Mock</stereotype></alternatives></beans>", null);
+        assertParsed("<beans bean-discovery-mode=\"all\">\n<interceptors><class>com.acme.Logged</class></interceptors>\n"
+                + "<decorators><class>com.acme.Decorator</class></decorators>\n</beans>", null);
+        assertParsed("<beans bean-discovery-mode=\"all\"><trim/></beans>", null);
+        assertParsed("<beans bean-discovery-mode=\"all\"><scan><exclude name=\"com.acme.**\"/></scan></beans>", null);
+        // A commented out element does not count, but text does
+        assertParsed("<beans bean-discovery-mode=\"all\"><!-- c --><trim/></beans>", null);
+    }
+
+    @Test
+    public void testDescriptorWithUnknownAttributesIsParsed() throws Exception {
+        // The default discovery mode depends on the version
+        assertParsed("<beans version=\"4.0\"/>", null);
+        assertParsed("<beans bean-discovery-mode=\"all\" foo=\"bar\"/>", null);
+        assertParsed("<beans bean-discovery-mode=\"\"/>", null);
+    }
+
+    @Test
+    public void testCacheFileRoundTrip() throws Exception {
+        Path directory = Files.createTempDirectory("weld-beans-xml");
+        String xml = "<beans bean-discovery-mode=\"all\" version=\"4.0\"><alternatives><class>com.acme.Foo</class>"
+                + "</alternatives><interceptors><class>com.acme.Logged</class></interceptors><trim/>"
+                + "<scan><exclude name=\"com.acme.**\"/></scan></beans>";
+        URL url = write(xml);
+        ParsingBootstrap bootstrap = new ParsingBootstrap();
+        BeansXml expected = bootstrap.parse(url);
+        bootstrap.parsed.set(0);
+
+        assertEquals(new BeansXmlCache(bootstrap, directory).parse(url), expected);
+        Assert.assertEquals(bootstrap.parsed.get(), 1);
+        Assert.assertEquals(cacheFiles(directory).size(), 1);
+
+        // A new cache reads the descriptor from the cache file
+        BeansXml cached = new BeansXmlCache(bootstrap, directory).parse(url);
+        Assert.assertEquals(bootstrap.parsed.get(), 1);
+        assertEquals(cached, expected);
+        Assert.assertEquals(cached.getUrl(), url);
+    }
+
+    @Test
+    public void testStaleCacheFile() throws Exception {
+        Path directory = Files.createTempDirectory("weld-beans-xml");
+        ParsingBootstrap bootstrap = new ParsingBootstrap();
+        URL url = write("<beans bean-discovery-mode=\"all\"><alternatives><class>com.acme.Foo</class></alternatives></beans>");
+        new BeansXmlCache(bootstrap, directory).parse(url);
+
+        // The descriptor changed
+        Files.write(Path.of(url.toURI()), "<beans bean-discovery-mode=\"all\"><alternatives><class>com.acme.Bar</class>"
+                .concat("</alternatives></beans>").getBytes(StandardCharsets.UTF_8));
+        BeansXml beansXml = new BeansXmlCache(bootstrap, directory).parse(url);
+        Assert.assertEquals(bootstrap.parsed.get(), 2);
+        Assert.assertEquals(beansXml.getEnabledAlternativeClasses().get(0).getValue(), "com.acme.Bar");
+
+        // The cache file was written by a different version
+        Path file = cacheFiles(directory).get(0);
+        byte[] content = Files.readAllBytes(file);
+        content[7]++;
+        Files.write(file, content);
+        Assert.assertEquals(new BeansXmlCache(bootstrap, directory).parse(url).getEnabledAlternativeClasses().get(0)
+                .getValue(), "com.acme.Bar");
+        Assert.assertEquals(bootstrap.parsed.get(), 3);
+    }
+
+    @Test
+    public void testCorruptedCacheFile() throws Exception {
+        Path directory = Files.createTempDirectory("weld-beans-xml");
+        ParsingBootstrap bootstrap = new ParsingBootstrap();
+        URL url = write("<beans bean-discovery-mode=\"all\" version=\"4.0\"><alternatives><class>com.acme.Foo</class>"
+                + "</alternatives><scan><exclude name=\"com.acme.**\"/></scan></beans>");
+        BeansXml expected = bootstrap.parse(url);
+        new BeansXmlCache(bootstrap, directory).parse(url);
+        Path file = cacheFiles(directory).get(0);
+        byte[] content = Files.readAllBytes(file);
+        for (int length = 0; length < content.length; length++) {
+            // Truncated cache file
+            Files.write(file, Arrays.copyOf(content, length));
+            int parsed = bootstrap.parsed.get();
+            assertEquals(new BeansXmlCache(bootstrap, directory).parse(url), expected);
+            Assert.assertEquals(bootstrap.parsed.get(), parsed + 1);
+        }
+        // Garbage
+        byte[] garbage = content.clone();
+        Arrays.fill(garbage, 8, garbage.length, (byte) 0xFF);
+        Files.write(file, garbage);
+        assertEquals(new BeansXmlCache(bootstrap, directory).parse(url), expected);
+    }
+
+    @Test
+    public void testIdenticalDescriptorsShareMetadata() throws Exception {
+        ParsingBootstrap bootstrap = new ParsingBootstrap();
+        BeansXmlCache cache = new BeansXmlCache(bootstrap);
+        String xml = "<beans bean-discovery-mode=\"all\"><alternatives><class>com.acme.Foo</class></alternatives></beans>";
+        URL first = write(xml);
+        URL second = write(xml);
+        BeansXml firstBeansXml = cache.parse(first);
+        BeansXml secondBeansXml = cache.parse(second);
+        Assert.assertEquals(bootstrap.parsed.get(), 1);
+        Assert.assertEquals(firstBeansXml.getUrl(), first);
+        Assert.assertEquals(secondBeansXml.getUrl(), second);
+        Assert.assertSame(firstBeansXml.getEnabledAlternativeClasses(), secondBeansXml.getEnabledAlternativeClasses());
+    }
+
+    private static void assertFastPath(String xml) throws Exception {
+        assertFastPath(xml, null);
+    }
+
+    private static void assertFastPath(String xml, BeanDiscoveryMode emptyBeansXmlDiscoveryMode) throws Exception {
+        URL url = write(xml);
+        ParsingBootstrap bootstrap = new ParsingBootstrap();
+        BeansXml beansXml = new BeansXmlCache(bootstrap).parse(url, emptyBeansXmlDiscoveryMode);
+        Assert.assertEquals(bootstrap.parsed.get(), 0, xml);
+        assertEquals(beansXml, bootstrap.parse(url, emptyBeansXmlDiscoveryMode));
+        Assert.assertEquals(beansXml.getUrl(), url);
+    }
+
+    private static void assertParsed(String xml, BeanDiscoveryMode emptyBeansXmlDiscoveryMode) throws Exception {
+        URL url = write(xml);
+        ParsingBootstrap bootstrap = new ParsingBootstrap();
+        BeansXml beansXml = new BeansXmlCache(bootstrap).parse(url, emptyBeansXmlDiscoveryMode);
+        Assert.assertEquals(bootstrap.parsed.get(), 1, xml);
+        assertEquals(beansXml, bootstrap.parse(url, emptyBeansXmlDiscoveryMode));
+    }
+
+    private static void assertEquals(BeansXml actual, BeansXml expected) {
+        Assert.assertEquals(actual.getBeanDiscoveryMode(), expected.getBeanDiscoveryMode());
+        Assert.assertEquals(actual.getVersion(), expected.getVersion());
+        Assert.assertEquals(actual.isTrimmed(), expected.isTrimmed());
+        Assert.assertEquals(values(actual.getEnabledAlternativeClasses()), values(expected.getEnabledAlternativeClasses()));
+        Assert.assertEquals(values(actual.getEnabledAlternativeStereotypes()),
+                values(expected.getEnabledAlternativeStereotypes()));
+        Assert.assertEquals(values(actual.getEnabledDecorators()), values(expected.getEnabledDecorators()));
+        Assert.assertEquals(values(actual.getEnabledInterceptors()), values(expected.getEnabledInterceptors()));
+        Assert.assertEquals(filterNames(actual.getScanning().getIncludes()), filterNames(expected.getScanning().getIncludes()));
+        Assert.assertEquals(filterNames(actual.getScanning().getExcludes()), filterNames(expected.getScanning().getExcludes()));
+    }
+
+    private static List<String> values(List<Metadata<String>> metadata) {
+        return metadata.stream().map(Metadata::getValue).collect(Collectors.toList());
+    }
+
+    private static List<String> filterNames(Collection<Metadata<Filter>> filters) {
+        return filters.stream().map(filter -> filter.getValue().getName()).collect(Collectors.toList());
+    }
+
+    private static URL write(String xml) throws IOException {
+        Path file = Files.createTempFile("beans", ".xml");
+        Files.write(file, xml.getBytes(StandardCharsets.UTF_8));
+        return file.toUri().toURL();
+    }
+
+    private static List<Path> cacheFiles(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.toString().endsWith(".beansxml")).collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * Parses a subset of beans.xml with the DOM parser of the JDK and counts the invocations.
+     */
+    private static class ParsingBootstrap extends MockBootstrap {
+
+        private final AtomicInteger parsed = new AtomicInteger();
+
+        @Override
+        public BeansXml parse(URL url) {
+            return parse(url, null);
+        }
+
+        @Override
+        public BeansXml parse(URL url, BeanDiscoveryMode emptyBeansXmlDiscoveryMode) {
+            parsed.incrementAndGet();
+            try (InputStream in = url.openStream()) {
+                byte[] content = in.readAllBytes();
+                if (content.length == 0) {
+                    return new ParsedBeansXml(url, emptyBeansXmlDiscoveryMode != null ? emptyBeansXmlDiscoveryMode
+                            : BeanDiscoveryMode.ANNOTATED, null, null);
+                }
+                Document document = DocumentBuilderFactory.newInstance().newDocumentBuilder()
+                        .parse(url.openStream());
+                Element beans = document.getDocumentElement();
+                String mode = beans.getAttribute("bean-discovery-mode");
+                String version = beans.hasAttribute("version") ? beans.getAttribute("version") : null;
+                ParsedBeansXml beansXml = new ParsedBeansXml(url, mode.isEmpty() ? BeanDiscoveryMode.ANNOTATED
+                        : BeanDiscoveryMode.valueOf(mode.toUpperCase(Locale.ROOT)), version, beans);
+                return beansXml;
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    private static class ParsedBeansXml implements BeansXml {
+
+        private final URL url;
+
+        private final BeanDiscoveryMode beanDiscoveryMode;
+
+        private final String version;
+
+        private final List<Metadata<String>> alternativeClasses = new ArrayList<>();
+
+        private final List<Metadata<String>> alternativeStereotypes = new ArrayList<>();
+
+        private final List<Metadata<String>> decorators = new ArrayList<>();
+
+        private final List<Metadata<String>> interceptors = new ArrayList<>();
+
+        private final List<Metadata<Filter>> excludes = new ArrayList<>();
+
+        private boolean trimmed;
+
+        ParsedBeansXml(URL url, BeanDiscoveryMode beanDiscoveryMode, String version, Element beans) {
+            this.url = url;
+            this.beanDiscoveryMode = beanDiscoveryMode;
+            this.version = version;
+            if (beans == null) {
+                return;
+            }
+            for (Element element : children(beans)) {
+                switch (element.getTagName()) {
+                    case "alternatives":
+                        for (Element child : children(element)) {
+                            (child.getTagName().equals("class") ? alternativeClasses : alternativeStereotypes)
+                                    .add(new MetadataImpl<>(child.getTextContent().trim(), url.toString()));
+                        }
+                        break;
+                    case "decorators":
+                    case "interceptors":
+                        for (Element child : children(element)) {
+                            (element.getTagName().equals("decorators") ? decorators : interceptors)
+                                    .add(new MetadataImpl<>(child.getTextContent().trim(), url.toString()));
+                        }
+                        break;
+                    case "trim":
+                        trimmed = true;
+                        break;
+                    case "scan":
+                        for (Element child : children(element)) {
+                            excludes.add(new MetadataImpl<Filter>(new ParsedFilter(child.getAttribute("name")),
+                                    url.toString()));
+                        }
+                        break;
+                    default:
+                        throw new IllegalArgumentException(element.getTagName());
+                }
+            }
+        }
+
+        private static List<Element> children(Element element) {
+            List<Element> children = new ArrayList<>();
+            NodeList nodes = element.getChildNodes();
+            for (int i = 0; i < nodes.getLength(); i++) {
+                if (nodes.item(i).getNodeType() == Node.ELEMENT_NODE) {
+                    children.add((Element) nodes.item(i));
+                }
+            }
+            return children;
+        }
+
+        @Override
+        public List<Metadata<String>> getEnabledAlternativeStereotypes() {
+            return alternativeStereotypes;
+        }
+
+        @Override
+        public List<Metadata<String>> getEnabledAlternativeClasses() {
+            return alternativeClasses;
+        }
+
+        @Override
+        public List<Metadata<String>> getEnabledDecorators() {
+            return decorators;
+        }
+
+        @Override
+        public List<Metadata<String>> getEnabledInterceptors() {
+            return interceptors;
+        }
+
+        @Override
+        public Scanning getScanning() {
+            return new Scanning() {
+
+                @Override
+                public Collection<Metadata<Filter>> getIncludes() {
+                    return Collections.emptyList();
+                }
+
+                @Override
+                public Collection<Metadata<Filter>> getExcludes() {
+                    return excludes;
+                }
+            };
+        }
+
+        @Override
+        public URL getUrl() {
+            return url;
+        }
+
+        @Override
+        public BeanDiscoveryMode getBeanDiscoveryMode() {
+            return beanDiscoveryMode;
+        }
+
+        @Override
+        public String getVersion() {
+            return version;
+        }
+
+        @Override
+        public boolean isTrimmed() {
+            return trimmed;
+        }
+    }
+
+    private static class ParsedFilter implements Filter {
+
+        private final String name;
+
+        ParsedFilter(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public Collection<Metadata<SystemPropertyActivation>> getSystemPropertyActivations() {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public Collection<Metadata<ClassAvailableActivation>> getClassAvailableActivations() {
+            return Collections.emptyList();
+        }
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.bootstrap.api.test;
+
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.weld.bootstrap.spi.BootstrapMeasurement;
+import org.jboss.weld.bootstrap.spi.helpers.BootstrapStopwatch;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class BootstrapStopwatchTest {
+
+    @Test
+    public void testWallTime() throws InterruptedException {
+        BootstrapStopwatch stopwatch = BootstrapStopwatch.start();
+        Thread.sleep(20);
+        BootstrapMeasurement measurement = stopwatch.stop();
+        Assert.assertTrue(measurement.getWallTime() >= TimeUnit.MILLISECONDS.toNanos(20), measurement.toString());
+        if (measurement.getCpuTime() >= 0) {
+            // The thread was sleeping most of the time
+            Assert.assertTrue(measurement.getCpuTime() < measurement.getWallTime(), measurement.toString());
+        }
+    }
+
+    @Test
+    public void testAllocatedBytes() {
+        BootstrapStopwatch stopwatch = BootstrapStopwatch.start();
+        byte[] data = new byte[1024 * 1024];
+        BootstrapMeasurement measurement = stopwatch.stop();
+        Assert.assertEquals(data.length, 1024 * 1024);
+        if (measurement.getAllocatedBytes() >= 0) {
+            Assert.assertTrue(measurement.getAllocatedBytes() >= data.length, measurement.toString());
+        }
+    }
+
+    @Test
+    public void testNestedMeasurements() throws InterruptedException {
+        // A phase enclosing the processing of two archives
+        BootstrapStopwatch phase = BootstrapStopwatch.start();
+        BootstrapStopwatch first = BootstrapStopwatch.start();
+        Thread.sleep(10);
+        BootstrapMeasurement firstArchive = first.stop();
+        BootstrapStopwatch second = BootstrapStopwatch.start();
+        Thread.sleep(10);
+        byte[] data = new byte[64 * 1024];
+        BootstrapMeasurement secondArchive = second.stop();
+        BootstrapMeasurement measurement = phase.stop();
+        Assert.assertEquals(data.length, 64 * 1024);
+
+        Assert.assertTrue(firstArchive.getWallTime() >= TimeUnit.MILLISECONDS.toNanos(10), firstArchive.toString());
+        Assert.assertTrue(secondArchive.getWallTime() >= TimeUnit.MILLISECONDS.toNanos(10), secondArchive.toString());
+        Assert.assertTrue(measurement.getWallTime() >= firstArchive.getWallTime() + secondArchive.getWallTime(),
+                measurement.toString());
+        if (measurement.getCpuTime() >= 0) {
+            Assert.assertTrue(measurement.getCpuTime() >= firstArchive.getCpuTime() + secondArchive.getCpuTime(),
+                    measurement.toString());
+        }
+        if (measurement.getAllocatedBytes() >= 0) {
+            Assert.assertTrue(secondArchive.getAllocatedBytes() >= data.length, secondArchive.toString());
+            Assert.assertTrue(measurement.getAllocatedBytes() >= firstArchive.getAllocatedBytes()
+                    + secondArchive.getAllocatedBytes(), measurement.toString());
+        }
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.bootstrap.api.test;
+
+import org.jboss.weld.bootstrap.api.Singleton;
+import org.jboss.weld.bootstrap.api.helpers.CachingRegistrySingletonProvider;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class CachingRegistrySingletonProviderTest {
+
+    @Test
+    public void testGetSetAndClear() {
+        Singleton<String> singleton = new CachingRegistrySingletonProvider().create(String.class);
+        Assert.assertFalse(singleton.isSet("foo"));
+        singleton.set("foo", "a");
+        singleton.set("bar", "b");
+        Assert.assertTrue(singleton.isSet("foo"));
+        Assert.assertEquals(singleton.get("foo"), "a");
+        Assert.assertEquals(singleton.get("foo"), "a");
+        Assert.assertEquals(singleton.get("bar"), "b");
+        singleton.set("foo", "c");
+        Assert.assertEquals(singleton.get("foo"), "c");
+        singleton.clear("foo");
+        Assert.assertFalse(singleton.isSet("foo"));
+        Assert.assertEquals(singleton.get("bar"), "b");
+    }
+
+    @Test(expectedExceptions = IllegalStateException.class)
+    public void testGetAfterClear() {
+        Singleton<String> singleton = new CachingRegistrySingletonProvider().create(String.class);
+        singleton.set("foo", "a");
+        Assert.assertEquals(singleton.get("foo"), "a");
+        singleton.clear("foo");
+        singleton.get("foo");
+    }
+
+}
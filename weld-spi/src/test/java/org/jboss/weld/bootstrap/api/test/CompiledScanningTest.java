@@ -0,0 +1,179 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.bootstrap.api.test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.PatternSyntaxException;
+
+import org.jboss.weld.bootstrap.spi.ClassAvailableActivation;
+import org.jboss.weld.bootstrap.spi.Filter;
+import org.jboss.weld.bootstrap.spi.Metadata;
+import org.jboss.weld.bootstrap.spi.Scanning;
+import org.jboss.weld.bootstrap.spi.SystemPropertyActivation;
+import org.jboss.weld.bootstrap.spi.WeldFilter;
+import org.jboss.weld.bootstrap.spi.helpers.CompiledScanning;
+import org.jboss.weld.bootstrap.spi.helpers.MetadataImpl;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class CompiledScanningTest {
+
+    @Test
+    public void testExcludes() {
+        CompiledScanning scanning = CompiledScanning.compile(scanning(Collections.<Metadata<Filter>> emptyList(),
+                Arrays.asList(filter("com.acme.Foo", null), filter("com.acme.impl.*", null),
+                        filter("com.acme.internal.**", null), filter(null, "com\\.acme\\..*Test"))),
+                new MockResourceLoader());
+        Assert.assertFalse(scanning.isAcceptAll());
+        Assert.assertFalse(scanning.accept("com.acme.Foo"));
+        Assert.assertTrue(scanning.accept("com.acme.FooBar"));
+        Assert.assertTrue(scanning.accept("com.acme.Bar"));
+        Assert.assertFalse(scanning.accept("com.acme.impl.Bar"));
+        Assert.assertTrue(scanning.accept("com.acme.impl.sub.Bar"));
+        Assert.assertFalse(scanning.accept("com.acme.internal.Bar"));
+        Assert.assertFalse(scanning.accept("com.acme.internal.sub.Bar"));
+        Assert.assertTrue(scanning.accept("com.acme.internalBar"));
+        Assert.assertFalse(scanning.accept("com.acme.api.BarTest"));
+    }
+
+    @Test
+    public void testIncludesAndActivations() {
+        String property = CompiledScanningTest.class.getName() + ".active";
+        System.setProperty(property, "true");
+        try {
+            CompiledScanning scanning = CompiledScanning.compile(
+                    scanning(Arrays.asList(filter("com.acme.**", null)),
+                            Arrays.asList(filter("com.acme.a.**", null, systemProperty(property, "true")),
+                                    filter("com.acme.b.**", null, systemProperty(property, "false")),
+                                    filter("com.acme.c.**", null, classAvailable("com.acme.Missing", false)),
+                                    filter("com.acme.d.**", null, classAvailable("com.acme.Missing", true)))),
+                    new MockResourceLoader());
+            Assert.assertFalse(scanning.accept("org.acme.Foo"));
+            Assert.assertFalse(scanning.accept("com.acme.a.Foo"));
+            Assert.assertTrue(scanning.accept("com.acme.b.Foo"));
+            Assert.assertTrue(scanning.accept("com.acme.c.Foo"));
+            Assert.assertFalse(scanning.accept("com.acme.d.Foo"));
+        } finally {
+            System.clearProperty(property);
+        }
+    }
+
+    @Test
+    public void testPatternsAreCompiledSeparately() {
+        CompiledScanning scanning = CompiledScanning.compile(scanning(Collections.<Metadata<Filter>> emptyList(),
+                Arrays.asList(filter(null, "(org)\\.acme\\..*"), filter(null, "com\\.acme\\.(\\w+)\\.\\1Impl"))),
+                new MockResourceLoader());
+        Assert.assertFalse(scanning.accept("org.acme.Foo"));
+        // The back-reference refers to the group of its own pattern
+        Assert.assertFalse(scanning.accept("com.acme.foo.fooImpl"));
+        Assert.assertTrue(scanning.accept("com.acme.foo.barImpl"));
+    }
+
+    @Test(expectedExceptions = PatternSyntaxException.class)
+    public void testUnbalancedPattern() {
+        // Merged with another pattern, the parentheses would balance out and match any class in org.acme
+        CompiledScanning.compile(scanning(Collections.<Metadata<Filter>> emptyList(),
+                Arrays.asList(filter(null, "com\\.acme\\.Foo"), filter(null, "com\\.acme\\.Bar)|(org\\.acme\\..*"))),
+                new MockResourceLoader());
+    }
+
+    @Test
+    public void testEmptyScanning() {
+        Assert.assertTrue(CompiledScanning.compile(Scanning.EMPTY_SCANNING, new MockResourceLoader()).isAcceptAll());
+        Assert.assertTrue(CompiledScanning.compile(Scanning.EMPTY_SCANNING, new MockResourceLoader()).accept("com.acme.Foo"));
+    }
+
+    private static Scanning scanning(final List<Metadata<Filter>> includes, final List<Metadata<Filter>> excludes) {
+        return new Scanning() {
+
+            public Collection<Metadata<Filter>> getIncludes() {
+                return includes;
+            }
+
+            public Collection<Metadata<Filter>> getExcludes() {
+                return excludes;
+            }
+        };
+    }
+
+    @SafeVarargs
+    private static Metadata<Filter> filter(final String name, final String pattern,
+            final Metadata<? extends Object>... activations) {
+        return new MetadataImpl<Filter>(new WeldFilter() {
+
+            public String getName() {
+                return name;
+            }
+
+            public String getPattern() {
+                return pattern;
+            }
+
+            @SuppressWarnings("unchecked")
+            public Collection<Metadata<SystemPropertyActivation>> getSystemPropertyActivations() {
+                List<Metadata<SystemPropertyActivation>> result = new ArrayList<Metadata<SystemPropertyActivation>>();
+                for (Metadata<? extends Object> activation : activations) {
+                    if (activation.getValue() instanceof SystemPropertyActivation) {
+                        result.add((Metadata<SystemPropertyActivation>) activation);
+                    }
+                }
+                return result;
+            }
+
+            @SuppressWarnings("unchecked")
+            public Collection<Metadata<ClassAvailableActivation>> getClassAvailableActivations() {
+                List<Metadata<ClassAvailableActivation>> result = new ArrayList<Metadata<ClassAvailableActivation>>();
+                for (Metadata<? extends Object> activation : activations) {
+                    if (activation.getValue() instanceof ClassAvailableActivation) {
+                        result.add((Metadata<ClassAvailableActivation>) activation);
+                    }
+                }
+                return result;
+            }
+        }, "test");
+    }
+
+    private static Metadata<SystemPropertyActivation> systemProperty(final String name, final String value) {
+        return new MetadataImpl<SystemPropertyActivation>(new SystemPropertyActivation() {
+
+            public String getName() {
+                return name;
+            }
+
+            public String getValue() {
+                return value;
+            }
+        }, "test");
+    }
+
+    private static Metadata<ClassAvailableActivation> classAvailable(final String className, final boolean inverted) {
+        return new MetadataImpl<ClassAvailableActivation>(new ClassAvailableActivation() {
+
+            public String getClassName() {
+                return className;
+            }
+
+            public boolean isInverted() {
+                return inverted;
+            }
+        }, "test");
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.bootstrap.api.test;
+
+import org.jboss.weld.bootstrap.api.helpers.FreezableServiceRegistry;
+import org.jboss.weld.injection.spi.ResourceInjectionServices;
+import org.jboss.weld.resources.spi.ResourceLoader;
+import org.jboss.weld.security.spi.SecurityServices;
+import org.jboss.weld.transaction.spi.TransactionServices;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class FreezableServiceRegistryTest {
+
+    @Test
+    public void testLookupBeforeAndAfterFreeze() {
+        FreezableServiceRegistry registry = new FreezableServiceRegistry();
+        MockSecurityServices securityServices = new MockSecurityServices();
+        MockTransactionServices transactionServices = new MockTransactionServices();
+        registry.add(SecurityServices.class, securityServices);
+        Assert.assertNull(registry.addIfAbsent(TransactionServices.class, transactionServices));
+        Assert.assertSame(registry.addIfAbsent(TransactionServices.class, new MockTransactionServices()),
+                transactionServices);
+        Assert.assertSame(registry.get(SecurityServices.class), securityServices);
+        Assert.assertFalse(registry.isFrozen());
+
+        registry.cleanupAfterBoot();
+
+        Assert.assertTrue(registry.isFrozen());
+        Assert.assertSame(registry.get(SecurityServices.class), securityServices);
+        Assert.assertSame(registry.getRequired(TransactionServices.class), transactionServices);
+        Assert.assertTrue(registry.contains(SecurityServices.class));
+        Assert.assertFalse(registry.contains(ResourceLoader.class));
+        Assert.assertNull(registry.get(ResourceLoader.class));
+        Assert.assertFalse(registry.getOptional(ResourceInjectionServices.class).isPresent());
+        Assert.assertEquals(registry.entrySet().size(), 2);
+    }
+
+    @Test(expectedExceptions = UnsupportedOperationException.class)
+    public void testAddAfterFreeze() {
+        FreezableServiceRegistry registry = new FreezableServiceRegistry();
+        registry.freeze();
+        registry.add(SecurityServices.class, new MockSecurityServices());
+    }
+
+    @Test(expectedExceptions = UnsupportedOperationException.class)
+    public void testAddIfAbsentAfterFreeze() {
+        FreezableServiceRegistry registry = new FreezableServiceRegistry();
+        registry.freeze();
+        registry.addIfAbsent(SecurityServices.class, new MockSecurityServices());
+    }
+
+    @Test(expectedExceptions = IllegalStateException.class)
+    public void testMissingRequiredServiceAfterFreeze() {
+        FreezableServiceRegistry registry = new FreezableServiceRegistry();
+        registry.freeze();
+        registry.getRequired(SecurityServices.class);
+    }
+
+}
@@ -0,0 +1,242 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.manager.api.test;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.jboss.weld.manager.api.ExecutorMetricsListener.ExecutorType;
+import org.jboss.weld.manager.api.helpers.AbstractExecutorServices;
+import org.jboss.weld.manager.api.helpers.ExecutorMetricsRecorder;
+import org.jboss.weld.manager.api.helpers.ExecutorStatisticsMXBean;
+import org.jboss.weld.manager.api.helpers.InstrumentedExecutorServices;
+import org.jboss.weld.manager.api.helpers.LaneExecutorServices;
+import org.jboss.weld.manager.api.helpers.LaneExecutorServices.Lane;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class ExecutorMetricsRecorderTest {
+
+    @Test
+    public void testCompletedAndFailedTasks() throws Exception {
+        ExecutorMetricsRecorder recorder = new ExecutorMetricsRecorder();
+        InstrumentedExecutorServices services = new InstrumentedExecutorServices(new SingleThreadExecutorServices(),
+                recorder);
+        ExecutorService executor = services.getTaskExecutor();
+        executor.submit(() -> "foo").get();
+        Future<?> failed = executor.submit(() -> {
+            throw new IllegalStateException();
+        });
+        try {
+            failed.get();
+            Assert.fail();
+        } catch (ExecutionException expected) {
+        }
+        awaitTermination(services);
+
+        ExecutorStatisticsMXBean statistics = recorder.getStatistics(ExecutorType.TASK);
+        Assert.assertEquals(statistics.getSubmittedTaskCount(), 2);
+        Assert.assertEquals(statistics.getCompletedTaskCount(), 2);
+        Assert.assertEquals(statistics.getFailedTaskCount(), 1);
+        Assert.assertEquals(statistics.getQueuedTaskCount(), 0);
+        Assert.assertEquals(statistics.getActiveTaskCount(), 0);
+        Assert.assertEquals(recorder.getExecutionTimes(ExecutorType.TASK).getCount(), 2);
+        Assert.assertEquals(recorder.getWaitTimes(ExecutorType.TASK).getCount(), 2);
+    }
+
+    @Test
+    public void testCancelledTaskIsNotQueued() throws Exception {
+        ExecutorMetricsRecorder recorder = new ExecutorMetricsRecorder();
+        InstrumentedExecutorServices services = new InstrumentedExecutorServices(new SingleThreadExecutorServices(),
+                recorder);
+        ExecutorService executor = services.getTaskExecutor();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch latch = new CountDownLatch(1);
+        AtomicInteger executions = new AtomicInteger();
+        Future<?> blocker = executor.submit(() -> {
+            started.countDown();
+            latch.await();
+            return null;
+        });
+        try {
+            Assert.assertTrue(started.await(10, TimeUnit.SECONDS));
+            Future<?> cancelled = executor.submit(executions::incrementAndGet);
+            Assert.assertEquals(recorder.getStatistics(ExecutorType.TASK).getQueuedTaskCount(), 1);
+            Assert.assertTrue(cancelled.cancel(false));
+            Assert.assertFalse(cancelled.cancel(false));
+        } finally {
+            latch.countDown();
+        }
+        blocker.get();
+        awaitTermination(services);
+
+        ExecutorStatisticsMXBean statistics = recorder.getStatistics(ExecutorType.TASK);
+        Assert.assertEquals(executions.get(), 0);
+        Assert.assertEquals(statistics.getSubmittedTaskCount(), 2);
+        Assert.assertEquals(statistics.getCancelledTaskCount(), 1);
+        Assert.assertEquals(statistics.getCompletedTaskCount(), 1);
+        Assert.assertEquals(statistics.getQueuedTaskCount(), 0);
+        Assert.assertEquals(recorder.getWaitTimes(ExecutorType.TASK).getCount(), 1);
+    }
+
+    @Test
+    public void testCancelledScheduledTaskIsNotQueued() {
+        ExecutorMetricsRecorder recorder = new ExecutorMetricsRecorder();
+        InstrumentedExecutorServices services = new InstrumentedExecutorServices(new SingleThreadExecutorServices(),
+                recorder);
+        ScheduledExecutorService timer = services.getTimerExecutor();
+        for (int i = 0; i < 10; i++) {
+            ScheduledFuture<?> timeout = timer.schedule(() -> {
+            }, 1, TimeUnit.HOURS);
+            Assert.assertTrue(timeout.cancel(false));
+        }
+        services.cleanup();
+
+        ExecutorStatisticsMXBean statistics = recorder.getStatistics(ExecutorType.TIMER);
+        Assert.assertEquals(statistics.getSubmittedTaskCount(), 10);
+        Assert.assertEquals(statistics.getCancelledTaskCount(), 10);
+        Assert.assertEquals(statistics.getCompletedTaskCount(), 0);
+        Assert.assertEquals(statistics.getQueuedTaskCount(), 0);
+    }
+
+    @Test
+    public void testPeriodicTaskIsSubmittedOncePerExecution() throws Exception {
+        ExecutorMetricsRecorder recorder = new ExecutorMetricsRecorder();
+        SingleThreadExecutorServices delegate = new SingleThreadExecutorServices();
+        InstrumentedExecutorServices services = new InstrumentedExecutorServices(delegate, recorder);
+        AtomicInteger executions = new AtomicInteger();
+        AtomicReference<ScheduledFuture<?>> future = new AtomicReference<>();
+        CountDownLatch scheduled = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(1);
+        future.set(services.getTimerExecutor().scheduleAtFixedRate(() -> {
+            try {
+                scheduled.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if (executions.incrementAndGet() == 5) {
+                future.get().cancel(false);
+                done.countDown();
+            }
+        }, 0, 1, TimeUnit.MILLISECONDS));
+        scheduled.countDown();
+        Assert.assertTrue(done.await(10, TimeUnit.SECONDS));
+        delegate.timer.shutdown();
+        Assert.assertTrue(delegate.timer.awaitTermination(10, TimeUnit.SECONDS));
+
+        ExecutorStatisticsMXBean statistics = recorder.getStatistics(ExecutorType.TIMER);
+        Assert.assertEquals(executions.get(), 5);
+        Assert.assertEquals(statistics.getCompletedTaskCount(), 5);
+        // The sixth execution was submitted and then cancelled
+        Assert.assertEquals(statistics.getSubmittedTaskCount(), 6);
+        Assert.assertEquals(statistics.getCancelledTaskCount(), 1);
+        Assert.assertEquals(statistics.getQueuedTaskCount(), 0);
+    }
+
+    @Test
+    public void testLaneExecutors() {
+        SingleThreadExecutorServices delegate = new SingleThreadExecutorServices();
+        LaneExecutorServices lanes = new LaneExecutorServices(delegate, 1, new Lane("a", 1, 10));
+        InstrumentedExecutorServices services = new InstrumentedExecutorServices(lanes, new ExecutorMetricsRecorder());
+        try {
+            ExecutorService lane = services.getTaskExecutor("a");
+            Assert.assertSame(services.getTaskExecutor("a"), lane);
+            Assert.assertNotSame(lane, services.getTaskExecutor());
+            // An unknown lane is served by the default task executor
+            Assert.assertSame(services.getTaskExecutor("b"), services.getTaskExecutor());
+        } finally {
+            services.cleanup();
+        }
+    }
+
+    @Test
+    public void testReset() throws Exception {
+        ExecutorMetricsRecorder recorder = new ExecutorMetricsRecorder();
+        InstrumentedExecutorServices services = new InstrumentedExecutorServices(new SingleThreadExecutorServices(),
+                recorder);
+        services.getTaskExecutor().submit(() -> null).get();
+        awaitTermination(services);
+        recorder.getStatistics(ExecutorType.TASK).reset();
+
+        ExecutorStatisticsMXBean statistics = recorder.getStatistics(ExecutorType.TASK);
+        Assert.assertEquals(statistics.getSubmittedTaskCount(), 0);
+        Assert.assertEquals(statistics.getCompletedTaskCount(), 0);
+        Assert.assertEquals(statistics.getExecutionTimeMax(), 0);
+        Assert.assertEquals(recorder.getExecutionTimes(ExecutorType.TASK).getCount(), 0);
+    }
+
+    @Test
+    public void testRegisterMBeans() throws Exception {
+        ExecutorMetricsRecorder recorder = new ExecutorMetricsRecorder();
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName("org.jboss.weld:type=ExecutorServices,deployment=\"test\",executor=task");
+        recorder.registerMBeans("test");
+        try {
+            Assert.assertTrue(server.isRegistered(name));
+            Assert.assertEquals(server.getAttribute(name, "SubmittedTaskCount"), 0L);
+        } finally {
+            recorder.cleanup();
+        }
+        Assert.assertFalse(server.isRegistered(name));
+    }
+
+    private static void awaitTermination(InstrumentedExecutorServices services) throws InterruptedException {
+        ExecutorService executor = services.getTaskExecutor();
+        executor.shutdown();
+        Assert.assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+    }
+
+    private static class SingleThreadExecutorServices extends AbstractExecutorServices {
+
+        private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        private final ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor();
+
+        @Override
+        public ExecutorService getTaskExecutor() {
+            return executor;
+        }
+
+        @Override
+        public ScheduledExecutorService getTimerExecutor() {
+            return timer;
+        }
+
+        @Override
+        protected int getThreadPoolSize() {
+            return 1;
+        }
+
+        @Override
+        public void cleanup() {
+            executor.shutdownNow();
+            timer.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,251 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.manager.api.test;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.weld.manager.api.ExecutorServices;
+import org.jboss.weld.manager.api.ExecutorServices.SplittableTask;
+import org.jboss.weld.manager.api.helpers.AbstractExecutorServices;
+import org.jboss.weld.manager.api.helpers.ForkJoinExecutorServices;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class ForkJoinExecutorServicesTest {
+
+    @Test
+    public void testTaskIsSplitIntoLeaves() {
+        ForkJoinExecutorServices services = new ForkJoinExecutorServices(4);
+        try {
+            assertAllLeavesExecuted(services);
+        } finally {
+            services.cleanup();
+        }
+    }
+
+    @Test
+    public void testDefaultImplementation() {
+        FixedThreadPoolExecutorServices services = new FixedThreadPoolExecutorServices();
+        try {
+            assertAllLeavesExecuted(services);
+        } finally {
+            services.cleanup();
+        }
+    }
+
+    @Test
+    public void testDefaultImplementationSplitsInCallingThread() {
+        FixedThreadPoolExecutorServices services = new FixedThreadPoolExecutorServices();
+        try {
+            Set<Thread> splitting = ConcurrentHashMap.newKeySet();
+            Set<Integer> executed = ConcurrentHashMap.newKeySet();
+            services.invokeAndCheckForExceptions(new RangeTask(0, 64, 4, executed, null) {
+
+                @Override
+                public List<RangeTask> split() {
+                    splitting.add(Thread.currentThread());
+                    return super.split();
+                }
+            });
+            Assert.assertEquals(splitting, Collections.singleton(Thread.currentThread()));
+        } finally {
+            services.cleanup();
+        }
+    }
+
+    @Test
+    public void testFirstFailureIsRethrown() {
+        ForkJoinExecutorServices services = new ForkJoinExecutorServices(4);
+        try {
+            IllegalStateException failure = new IllegalStateException();
+            Set<Integer> executed = ConcurrentHashMap.newKeySet();
+            try {
+                services.invokeAndCheckForExceptions(new RangeTask(0, 1024, 1, executed, index -> {
+                    if (index == 700) {
+                        throw failure;
+                    }
+                }));
+                Assert.fail();
+            } catch (IllegalStateException e) {
+                Assert.assertSame(e, failure);
+            }
+        } finally {
+            services.cleanup();
+        }
+    }
+
+    @Test
+    public void testOneOfMultipleFailuresIsRethrown() {
+        ForkJoinExecutorServices services = new ForkJoinExecutorServices(4);
+        try {
+            try {
+                services.invokeAndCheckForExceptions(new RangeTask(0, 1024, 1, ConcurrentHashMap.newKeySet(), index -> {
+                    if (index % 100 == 0) {
+                        throw new IllegalStateException(String.valueOf(index));
+                    }
+                }));
+                Assert.fail();
+            } catch (IllegalStateException e) {
+                Assert.assertEquals(Integer.parseInt(e.getMessage()) % 100, 0);
+            }
+        } finally {
+            services.cleanup();
+        }
+    }
+
+    @Test
+    public void testRemainingSubtasksAreSkippedAfterFailure() {
+        // A single worker thread executes the leftmost subtask first
+        ForkJoinExecutorServices services = new ForkJoinExecutorServices(1);
+        try {
+            Set<Integer> executed = ConcurrentHashMap.newKeySet();
+            try {
+                services.invokeAndCheckForExceptions(new RangeTask(0, 64, 1, executed, index -> {
+                    throw new IllegalStateException();
+                }));
+                Assert.fail();
+            } catch (IllegalStateException expected) {
+            }
+            Assert.assertEquals(executed, Collections.singleton(0));
+        } finally {
+            services.cleanup();
+        }
+    }
+
+    @Test
+    public void testCheckedExceptionIsWrapped() {
+        for (ExecutorServices services : Arrays.asList(new ForkJoinExecutorServices(2),
+                new FixedThreadPoolExecutorServices())) {
+            IOException failure = new IOException();
+            try {
+                services.invokeAndCheckForExceptions(new RangeTask(0, 8, 1, ConcurrentHashMap.newKeySet(), index -> {
+                    if (index == 5) {
+                        throw failure;
+                    }
+                }));
+                Assert.fail();
+            } catch (RuntimeException e) {
+                Assert.assertSame(e.getCause(), failure);
+            } finally {
+                services.cleanup();
+            }
+        }
+    }
+
+    @Test
+    public void testCleanup() {
+        ForkJoinExecutorServices services = new ForkJoinExecutorServices(2);
+        ExecutorService executor = services.getTaskExecutor();
+        services.cleanup();
+        Assert.assertTrue(executor.isShutdown());
+        try {
+            services.invokeAndCheckForExceptions(new RangeTask(0, 8, 1, ConcurrentHashMap.newKeySet(), null));
+            Assert.fail();
+        } catch (RejectedExecutionException expected) {
+        }
+    }
+
+    private static void assertAllLeavesExecuted(ExecutorServices services) {
+        Set<Integer> executed = ConcurrentHashMap.newKeySet();
+        AtomicInteger executions = new AtomicInteger();
+        services.invokeAndCheckForExceptions(new RangeTask(0, 1000, 7, executed, index -> executions.incrementAndGet()));
+        Assert.assertEquals(executed.size(), 1000);
+        Assert.assertEquals(executions.get(), 1000);
+    }
+
+    /**
+     * Processes the indexes in the given range. A range larger than the threshold is split in halves.
+     */
+    private static class RangeTask implements SplittableTask {
+
+        private final int from;
+
+        private final int to;
+
+        private final int threshold;
+
+        private final Set<Integer> executed;
+
+        private final IndexAction action;
+
+        RangeTask(int from, int to, int threshold, Set<Integer> executed, IndexAction action) {
+            this.from = from;
+            this.to = to;
+            this.threshold = threshold;
+            this.executed = executed;
+            this.action = action;
+        }
+
+        @Override
+        public List<RangeTask> split() {
+            if (to - from <= threshold) {
+                return Collections.emptyList();
+            }
+            int middle = (from + to) >>> 1;
+            return Arrays.asList(new RangeTask(from, middle, threshold, executed, action),
+                    new RangeTask(middle, to, threshold, executed, action));
+        }
+
+        @Override
+        public void execute() throws Exception {
+            for (int i = from; i < to; i++) {
+                Assert.assertTrue(executed.add(i), "executed twice: " + i);
+                if (action != null) {
+                    action.execute(i);
+                }
+            }
+        }
+    }
+
+    private interface IndexAction {
+
+        void execute(int index) throws Exception;
+    }
+
+    /**
+     * Uses the default implementation of {@link ExecutorServices#invokeAndCheckForExceptions(SplittableTask)}.
+     */
+    private static class FixedThreadPoolExecutorServices extends AbstractExecutorServices {
+
+        private final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        @Override
+        public ExecutorService getTaskExecutor() {
+            return executor;
+        }
+
+        @Override
+        protected int getThreadPoolSize() {
+            return 2;
+        }
+
+        @Override
+        public void cleanup() {
+            executor.shutdownNow();
+            super.cleanup();
+        }
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.manager.api.test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import org.jboss.weld.manager.api.helpers.JfrObserverMetricsListener;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+public class JfrObserverMetricsListenerTest {
+
+    private static final String EVENT_NAME = "org.jboss.weld.event.ObserverNotification";
+
+    @Test
+    public void testNestedNotifications() throws Exception {
+        JfrObserverMetricsListener listener = new JfrObserverMetricsListener();
+        MockObserverMethod outer = new MockObserverMethod("outer", false);
+        MockObserverMethod inner = new MockObserverMethod("inner", true);
+        Path file = Files.createTempFile("weld-observers", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(EVENT_NAME).withThreshold(Duration.ZERO);
+            recording.start();
+            listener.notificationStarted(outer, String.class, 0);
+            // The outer observer fires an event
+            listener.notificationStarted(inner, Integer.class, 42);
+            listener.notificationFinished(inner, Integer.class, 10, new IllegalStateException());
+            listener.notificationFinished(outer, String.class, 20, null);
+            recording.stop();
+            recording.dump(file);
+
+            List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+            Assert.assertEquals(events.size(), 2);
+            RecordedEvent innerEvent = events.stream().filter(e -> e.getString("observer").equals("inner")).findFirst()
+                    .get();
+            Assert.assertEquals(innerEvent.getString("eventType"), Integer.class.getName());
+            Assert.assertTrue(innerEvent.getBoolean("async"));
+            Assert.assertTrue(innerEvent.getBoolean("failed"));
+            Assert.assertEquals(innerEvent.getDuration("waitTime"), Duration.ofNanos(42));
+            RecordedEvent outerEvent = events.stream().filter(e -> e.getString("observer").equals("outer")).findFirst()
+                    .get();
+            Assert.assertEquals(outerEvent.getString("eventType"), String.class.getName());
+            Assert.assertFalse(outerEvent.getBoolean("async"));
+            Assert.assertFalse(outerEvent.getBoolean("failed"));
+            Assert.assertTrue(outerEvent.getDuration().compareTo(innerEvent.getDuration()) >= 0);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
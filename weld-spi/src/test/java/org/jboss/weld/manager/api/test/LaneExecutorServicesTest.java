@@ -0,0 +1,243 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.manager.api.test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.weld.manager.api.helpers.AbstractExecutorServices;
+import org.jboss.weld.manager.api.helpers.LaneExecutorServices;
+import org.jboss.weld.manager.api.helpers.LaneExecutorServices.Lane;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class LaneExecutorServicesTest {
+
+    @Test
+    public void testLaneRejectsTasksAtCapacity() throws Exception {
+        LaneExecutorServices services = new LaneExecutorServices(new SingleThreadExecutorServices(), 1,
+                new Lane("a", 1, 2));
+        try {
+            ExecutorService lane = services.getTaskExecutor("a");
+            CountDownLatch release = block(lane);
+            try {
+                lane.execute(() -> {
+                });
+                lane.execute(() -> {
+                });
+                Assert.assertEquals(services.getQueueSize("a"), 2);
+                try {
+                    lane.execute(() -> {
+                    });
+                    Assert.fail();
+                } catch (RejectedExecutionException expected) {
+                }
+                Assert.assertEquals(services.getQueueSize("a"), 2);
+            } finally {
+                release.countDown();
+            }
+            lane.shutdown();
+            Assert.assertTrue(lane.awaitTermination(10, TimeUnit.SECONDS));
+            Assert.assertEquals(services.getQueueSize("a"), 0);
+        } finally {
+            services.cleanup();
+        }
+    }
+
+    @Test
+    public void testWeightedShare() throws Exception {
+        LaneExecutorServices services = new LaneExecutorServices(new SingleThreadExecutorServices(), 1,
+                new Lane("a", 3, 100), new Lane("b", 1, 100));
+        try {
+            ExecutorService a = services.getTaskExecutor("a");
+            ExecutorService b = services.getTaskExecutor("b");
+            List<String> order = Collections.synchronizedList(new ArrayList<>());
+            // Saturate both lanes while the only worker thread is busy
+            CountDownLatch release = block(a);
+            try {
+                for (int i = 0; i < 8; i++) {
+                    String name = "a" + i;
+                    a.execute(() -> order.add(name));
+                }
+                for (int i = 0; i < 8; i++) {
+                    String name = "b" + i;
+                    b.execute(() -> order.add(name));
+                }
+            } finally {
+                release.countDown();
+            }
+            a.shutdown();
+            b.shutdown();
+            Assert.assertTrue(a.awaitTermination(10, TimeUnit.SECONDS));
+            Assert.assertTrue(b.awaitTermination(10, TimeUnit.SECONDS));
+            Assert.assertEquals(order.size(), 16);
+            // Lane a gets three tasks for each task of lane b while both lanes have queued tasks
+            Assert.assertEquals(order.subList(0, 8), Arrays.asList("a0", "a1", "b0", "a2", "a3", "a4", "b1", "a5"));
+        } finally {
+            services.cleanup();
+        }
+    }
+
+    @Test
+    public void testTasksOfLaneAreStartedInOrder() throws Exception {
+        LaneExecutorServices services = new LaneExecutorServices(new SingleThreadExecutorServices(), 1,
+                new Lane("a", 1, 100));
+        try {
+            ExecutorService lane = services.getTaskExecutor("a");
+            List<Integer> order = Collections.synchronizedList(new ArrayList<>());
+            List<Integer> expected = new ArrayList<>();
+            CountDownLatch release = block(lane);
+            try {
+                for (int i = 0; i < 50; i++) {
+                    int index = i;
+                    lane.execute(() -> order.add(index));
+                    expected.add(i);
+                }
+            } finally {
+                release.countDown();
+            }
+            lane.shutdown();
+            Assert.assertTrue(lane.awaitTermination(10, TimeUnit.SECONDS));
+            Assert.assertEquals(order, expected);
+        } finally {
+            services.cleanup();
+        }
+    }
+
+    @Test
+    public void testLaneShutdown() throws Exception {
+        LaneExecutorServices services = new LaneExecutorServices(new SingleThreadExecutorServices(), 1,
+                new Lane("a", 1, 10), new Lane("b", 1, 10));
+        try {
+            ExecutorService a = services.getTaskExecutor("a");
+            ExecutorService b = services.getTaskExecutor("b");
+            CountDownLatch release = block(a);
+            Future<String> queued;
+            try {
+                queued = a.submit(() -> "foo");
+                a.shutdown();
+                Assert.assertTrue(a.isShutdown());
+                Assert.assertFalse(a.isTerminated());
+                Assert.assertFalse(a.awaitTermination(10, TimeUnit.MILLISECONDS));
+                try {
+                    a.execute(() -> {
+                    });
+                    Assert.fail();
+                } catch (RejectedExecutionException expected) {
+                }
+            } finally {
+                release.countDown();
+            }
+            // The tasks queued before the shutdown are executed
+            Assert.assertTrue(a.awaitTermination(10, TimeUnit.SECONDS));
+            Assert.assertTrue(a.isTerminated());
+            Assert.assertEquals(queued.get(), "foo");
+            // The other lanes are not affected
+            Assert.assertFalse(b.isShutdown());
+            Assert.assertEquals(b.submit(() -> "bar").get(10, TimeUnit.SECONDS), "bar");
+        } finally {
+            services.cleanup();
+        }
+    }
+
+    @Test
+    public void testCleanupCancelsQueuedTasks() throws Exception {
+        LaneExecutorServices services = new LaneExecutorServices(new SingleThreadExecutorServices(), 1,
+                new Lane("a", 1, 10));
+        ExecutorService lane = services.getTaskExecutor("a");
+        CountDownLatch release = block(lane);
+        List<Future<?>> queued = new ArrayList<>();
+        try {
+            for (int i = 0; i < 5; i++) {
+                queued.add(lane.submit(() -> {
+                }));
+            }
+            services.cleanup();
+        } finally {
+            release.countDown();
+        }
+        for (Future<?> future : queued) {
+            Assert.assertTrue(future.isCancelled());
+        }
+        Assert.assertTrue(lane.isShutdown());
+        Assert.assertTrue(lane.awaitTermination(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testUnknownLaneIsForwarded() {
+        SingleThreadExecutorServices delegate = new SingleThreadExecutorServices();
+        LaneExecutorServices services = new LaneExecutorServices(delegate, 1, new Lane("a", 1, 10));
+        try {
+            Assert.assertSame(services.getTaskExecutor("b"), delegate.executor);
+            Assert.assertSame(services.getTaskExecutor(), delegate.executor);
+            Assert.assertNotSame(services.getTaskExecutor("a"), delegate.executor);
+        } finally {
+            services.cleanup();
+        }
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testDuplicateLane() {
+        new LaneExecutorServices(new SingleThreadExecutorServices(), 1, new Lane("a", 1, 10), new Lane("a", 2, 10));
+    }
+
+    /**
+     * Occupies a worker thread until the returned latch is released.
+     */
+    private static CountDownLatch block(ExecutorService lane) throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        lane.execute(() -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        Assert.assertTrue(started.await(10, TimeUnit.SECONDS));
+        return release;
+    }
+
+    private static class SingleThreadExecutorServices extends AbstractExecutorServices {
+
+        private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        @Override
+        public ExecutorService getTaskExecutor() {
+            return executor;
+        }
+
+        @Override
+        protected int getThreadPoolSize() {
+            return 1;
+        }
+
+        @Override
+        public void cleanup() {
+            executor.shutdownNow();
+        }
+    }
+}
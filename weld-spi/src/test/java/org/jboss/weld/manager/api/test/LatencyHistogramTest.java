@@ -0,0 +1,87 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.manager.api.test;
+
+import org.jboss.weld.manager.api.helpers.LatencyHistogram;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void testEmptyHistogram() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        Assert.assertEquals(histogram.getCount(), 0);
+        Assert.assertEquals(histogram.getMax(), 0);
+        Assert.assertEquals(histogram.getValueAtPercentile(99), 0);
+        Assert.assertTrue(histogram.getMean() == 0);
+    }
+
+    @Test
+    public void testSmallValuesAreExact() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 20; i++) {
+            histogram.record(i);
+        }
+        histogram.record(-5);
+        Assert.assertEquals(histogram.getCount(), 21);
+        Assert.assertEquals(histogram.getValueAtPercentile(0), 0);
+        Assert.assertEquals(histogram.getValueAtPercentile(50), 10);
+        Assert.assertEquals(histogram.getValueAtPercentile(100), 20);
+        Assert.assertEquals(histogram.getMax(), 20);
+        Assert.assertTrue(histogram.getMean() == 10);
+    }
+
+    @Test
+    public void testRelativeError() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long value = 1; value <= 100_000; value++) {
+            histogram.record(value * 1000);
+        }
+        for (double percentile : new double[] { 1, 50, 90, 99, 99.9 }) {
+            double expected = percentile * 1000 * 1000;
+            long actual = histogram.getValueAtPercentile(percentile);
+            Assert.assertTrue(actual >= expected && actual <= expected * 1.0625,
+                    "p" + percentile + ": expected " + expected + " but was " + actual);
+        }
+        Assert.assertEquals(histogram.getValueAtPercentile(100), 100_000_000);
+        Assert.assertEquals(histogram.getValueAtPercentile(100), histogram.getMax());
+    }
+
+    @Test
+    public void testLargeValues() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(Long.MAX_VALUE);
+        Assert.assertEquals(histogram.getMax(), Long.MAX_VALUE);
+        Assert.assertEquals(histogram.getValueAtPercentile(50), Long.MAX_VALUE);
+    }
+
+    @Test
+    public void testReset() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(42);
+        histogram.reset();
+        Assert.assertEquals(histogram.getCount(), 0);
+        Assert.assertEquals(histogram.getMax(), 0);
+        Assert.assertEquals(histogram.getValueAtPercentile(50), 0);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testInvalidPercentile() {
+        new LatencyHistogram().getValueAtPercentile(101);
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.manager.api.test;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.jboss.weld.manager.api.helpers.ObserverMetricsRecorder;
+import org.jboss.weld.manager.api.helpers.ObserverMetricsRecorder.ObserverStatistics;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class ObserverMetricsRecorderTest {
+
+    @Test
+    public void testStatistics() {
+        ObserverMetricsRecorder recorder = new ObserverMetricsRecorder();
+        MockObserverMethod observer = new MockObserverMethod("foo", true);
+        Assert.assertNull(recorder.getStatistics(observer));
+        notify(recorder, observer, 100, 1000, null);
+        notify(recorder, observer, 200, 2000, new IllegalStateException());
+
+        ObserverStatistics statistics = recorder.getStatistics(observer);
+        Assert.assertSame(statistics.getObserverMethod(), observer);
+        Assert.assertEquals(statistics.getNotificationCount(), 2);
+        Assert.assertEquals(statistics.getFailureCount(), 1);
+        Assert.assertEquals(statistics.getWaitTimes().getCount(), 2);
+        Assert.assertEquals(statistics.getExecutionTimes().getCount(), 2);
+        Assert.assertEquals(statistics.getExecutionTimes().getMax(), 2000);
+        Assert.assertEquals(recorder.getStatistics().size(), 1);
+
+        recorder.cleanup();
+        Assert.assertNull(recorder.getStatistics(observer));
+    }
+
+    @Test
+    public void testSlowestObservers() {
+        ObserverMetricsRecorder recorder = new ObserverMetricsRecorder();
+        MockObserverMethod fast = new MockObserverMethod("fast", false);
+        MockObserverMethod slow = new MockObserverMethod("slow", false);
+        MockObserverMethod slowest = new MockObserverMethod("slowest", false);
+        for (int i = 0; i < 100; i++) {
+            notify(recorder, fast, 0, 1000, null);
+            notify(recorder, slow, 0, i == 99 ? 1_000_000 : 1000, null);
+            notify(recorder, slowest, 0, i == 99 ? 5_000_000 : 1000, null);
+        }
+
+        List<ObserverStatistics> top = recorder.getSlowestObservers(2, 100);
+        Assert.assertEquals(top.size(), 2);
+        Assert.assertSame(top.get(0).getObserverMethod(), slowest);
+        Assert.assertSame(top.get(1).getObserverMethod(), slow);
+        Assert.assertEquals(recorder.getSlowestObservers(10, 99).size(), 3);
+        Assert.assertTrue(recorder.getSlowestObservers(0, 99).isEmpty());
+    }
+
+    @Test
+    public void testSlowestObserversWhileRecording() throws InterruptedException {
+        ObserverMetricsRecorder recorder = new ObserverMetricsRecorder();
+        MockObserverMethod[] observers = new MockObserverMethod[50];
+        for (int i = 0; i < observers.length; i++) {
+            observers[i] = new MockObserverMethod("observer" + i, true);
+            notify(recorder, observers[i], 0, 1000, null);
+        }
+        AtomicBoolean stop = new AtomicBoolean();
+        Thread writer = new Thread(() -> {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            while (!stop.get()) {
+                notify(recorder, observers[random.nextInt(observers.length)], 0, random.nextLong(1, 10_000_000), null);
+            }
+        });
+        writer.start();
+        try {
+            for (int i = 0; i < 200; i++) {
+                Assert.assertEquals(recorder.getSlowestObservers(observers.length, 99).size(), observers.length);
+            }
+        } finally {
+            stop.set(true);
+            writer.join();
+        }
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testNegativeLimit() {
+        new ObserverMetricsRecorder().getSlowestObservers(-1, 99);
+    }
+
+    private static void notify(ObserverMetricsRecorder recorder, MockObserverMethod observer, long waitTime,
+            long executionTime, Throwable failure) {
+        recorder.notificationStarted(observer, String.class, waitTime);
+        recorder.notificationFinished(observer, String.class, executionTime, failure);
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.manager.api.test;
+
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.weld.manager.api.helpers.VirtualThreadExecutorServices;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class VirtualThreadExecutorServicesTest {
+
+    @Test
+    public void testThreads() throws Exception {
+        VirtualThreadExecutorServices services = new VirtualThreadExecutorServices();
+        try {
+            Thread thread = services.getTaskExecutor().submit(Thread::currentThread).get(10, TimeUnit.SECONDS);
+            Assert.assertNotSame(thread, Thread.currentThread());
+            Assert.assertEquals(isVirtual(thread), VirtualThreadExecutorServices.isSupported());
+            if (!VirtualThreadExecutorServices.isSupported()) {
+                // Platform threads do not prevent the JVM from exiting
+                Assert.assertTrue(thread.isDaemon());
+            }
+        } finally {
+            services.cleanup();
+        }
+    }
+
+    @Test
+    public void testMaxConcurrency() throws Exception {
+        VirtualThreadExecutorServices services = new VirtualThreadExecutorServices(2);
+        ExecutorService executor = services.getTaskExecutor();
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        int threadsBefore = ManagementFactory.getThreadMXBean().getThreadCount();
+        try {
+            for (int i = 0; i < 50; i++) {
+                futures.add(executor.submit(() -> {
+                    maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    release.await();
+                    running.decrementAndGet();
+                    return null;
+                }));
+            }
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (running.get() < 2 && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            // Give the other tasks a chance to exceed the limit
+            Thread.sleep(100);
+            Assert.assertEquals(running.get(), 2);
+            // The tasks exceeding the limit must not occupy platform threads, virtual threads need carrier threads though
+            int threadsStarted = ManagementFactory.getThreadMXBean().getThreadCount() - threadsBefore;
+            int maxThreads = VirtualThreadExecutorServices.isSupported() ? 2 + Runtime.getRuntime().availableProcessors() : 2;
+            Assert.assertTrue(threadsStarted <= maxThreads, "Platform threads started: " + threadsStarted);
+        } finally {
+            release.countDown();
+        }
+        try {
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+            Assert.assertEquals(maxRunning.get(), 2);
+        } finally {
+            services.cleanup();
+        }
+    }
+
+    @Test
+    public void testPermitIsReleasedOnFailure() throws Exception {
+        VirtualThreadExecutorServices services = new VirtualThreadExecutorServices(1);
+        ExecutorService executor = services.getTaskExecutor();
+        try {
+            for (int i = 0; i < 5; i++) {
+                Future<?> failed = executor.submit(() -> {
+                    throw new IllegalStateException();
+                });
+                try {
+                    failed.get(10, TimeUnit.SECONDS);
+                    Assert.fail();
+                } catch (ExecutionException expected) {
+                }
+            }
+            // A task which throws from run() instead of completing a future
+            CountDownLatch thrown = new CountDownLatch(1);
+            executor.execute(() -> {
+                thrown.countDown();
+                throw new IllegalStateException();
+            });
+            Assert.assertTrue(thrown.await(10, TimeUnit.SECONDS));
+            Assert.assertEquals(executor.submit(() -> "foo").get(10, TimeUnit.SECONDS), "foo");
+        } finally {
+            services.cleanup();
+        }
+    }
+
+    @Test
+    public void testCleanupCancelsWaitingTasks() throws Exception {
+        VirtualThreadExecutorServices services = new VirtualThreadExecutorServices(1);
+        ExecutorService executor = services.getTaskExecutor();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<?> blocker = executor.submit(() -> {
+            started.countDown();
+            // Hold the permit until the waiting task is cancelled
+            while (true) {
+                try {
+                    release.await();
+                    return null;
+                } catch (InterruptedException ignored) {
+                }
+            }
+        });
+        try {
+            Assert.assertTrue(started.await(10, TimeUnit.SECONDS));
+            Future<?> waiting = executor.submit(() -> null);
+            services.cleanup();
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (!waiting.isDone() && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            Assert.assertTrue(waiting.isCancelled());
+        } finally {
+            release.countDown();
+        }
+        Assert.assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        Assert.assertTrue(blocker.isDone());
+    }
+
+    private static boolean isVirtual(Thread thread) throws Exception {
+        Method isVirtual;
+        try {
+            isVirtual = Thread.class.getMethod("isVirtual");
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+        return (Boolean) isVirtual.invoke(thread);
+    }
+}
@@ -0,0 +1,301 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.resources.spi.test;
+
+import java.io.Serializable;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.weld.resources.spi.ClassFileInfo;
+import org.jboss.weld.resources.spi.ClassFileInfo.NestingType;
+import org.jboss.weld.resources.spi.ClassFileServices;
+import org.jboss.weld.resources.spi.helpers.IndexedClassFileServices;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class IndexedClassFileServicesTest {
+
+    private static final String ARCHIVE = "archive.jar";
+
+    private static final String HASH = "1234";
+
+    @Test
+    public void testIndexFileName() throws Exception {
+        Path directory = Files.createTempDirectory("weld-index");
+        MockClassFileServices delegate = new MockClassFileServices();
+        Path file = new IndexedClassFileServices(delegate, directory, ARCHIVE, HASH).getIndexFile();
+        MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        StringBuilder expected = new StringBuilder();
+        for (byte b : digest.digest(ARCHIVE.getBytes(StandardCharsets.UTF_8))) {
+            expected.append(String.format("%02x", b));
+        }
+        Assert.assertEquals(file, directory.resolve(expected + ".idx"));
+        // "Aa" and "BB" have the same String.hashCode()
+        Assert.assertEquals("Aa".hashCode(), "BB".hashCode());
+        Assert.assertFalse(new IndexedClassFileServices(delegate, directory, "Aa", HASH).getIndexFile()
+                .equals(new IndexedClassFileServices(delegate, directory, "BB", HASH).getIndexFile()));
+    }
+
+    @Test
+    public void testRoundTrip() throws Exception {
+        Path directory = Files.createTempDirectory("weld-index");
+        MockClassFileServices delegate = new MockClassFileServices();
+        IndexedClassFileServices services = new IndexedClassFileServices(delegate, directory, ARCHIVE, HASH);
+        Assert.assertFalse(services.isIndexLoaded());
+        query(services);
+        services.cleanupAfterBoot();
+        Assert.assertTrue(Files.isRegularFile(services.getIndexFile()));
+
+        delegate.invocations.set(0);
+        services = new IndexedClassFileServices(delegate, directory, ARCHIVE, HASH);
+        Assert.assertTrue(services.isIndexLoaded());
+        query(services);
+        Assert.assertEquals(delegate.invocations.get(), 0);
+        // A query which was not recorded is forwarded to the metadata obtained from the delegate
+        Assert.assertFalse(services.getClassFileInfo("com.acme.Foo").isAssignableTo(Number.class));
+        Assert.assertEquals(delegate.invocations.get(), 2);
+    }
+
+    @Test
+    public void testDelegateNotUsedAfterCleanup() throws Exception {
+        Path directory = Files.createTempDirectory("weld-index");
+        MockClassFileServices delegate = new MockClassFileServices();
+        byte[] content = Files.readAllBytes(writeIndex(delegate, directory));
+
+        IndexedClassFileServices services = new IndexedClassFileServices(delegate, directory, ARCHIVE, HASH);
+        ClassFileInfo info = services.getClassFileInfo("com.acme.Foo");
+        services.cleanupAfterBoot();
+        delegate.invocations.set(0);
+        // Recorded metadata is still answered from the index
+        query(services);
+        try {
+            info.isAssignableTo(Number.class);
+            Assert.fail();
+        } catch (IllegalStateException expected) {
+        }
+        try {
+            services.getClassFileInfo("com.acme.Baz");
+            Assert.fail();
+        } catch (IllegalStateException expected) {
+        }
+        try {
+            services.getClassFileInfos(Arrays.asList("com.acme.Foo", "com.acme.Baz"));
+            Assert.fail();
+        } catch (IllegalStateException expected) {
+        }
+        Assert.assertEquals(delegate.invocations.get(), 0);
+        // Nothing new was recorded
+        services.cleanupAfterBoot();
+        Assert.assertTrue(Arrays.equals(Files.readAllBytes(services.getIndexFile()), content));
+    }
+
+    @Test
+    public void testHeaderMismatch() throws Exception {
+        Path directory = Files.createTempDirectory("weld-index");
+        MockClassFileServices delegate = new MockClassFileServices();
+        Path file = writeIndex(delegate, directory);
+        byte[] content = Files.readAllBytes(file);
+
+        // Different content hash
+        Assert.assertFalse(new IndexedClassFileServices(delegate, directory, ARCHIVE, "5678").isIndexLoaded());
+        // Index of a different archive
+        IndexedClassFileServices other = new IndexedClassFileServices(delegate, directory, "other.jar", HASH);
+        Files.write(other.getIndexFile(), content);
+        Assert.assertFalse(new IndexedClassFileServices(delegate, directory, "other.jar", HASH).isIndexLoaded());
+        // Different magic number and version
+        for (int position : new int[] { 0, 7 }) {
+            byte[] modified = content.clone();
+            modified[position]++;
+            Files.write(file, modified);
+            Assert.assertFalse(new IndexedClassFileServices(delegate, directory, ARCHIVE, HASH).isIndexLoaded());
+        }
+        Files.write(file, content);
+        Assert.assertTrue(new IndexedClassFileServices(delegate, directory, ARCHIVE, HASH).isIndexLoaded());
+    }
+
+    @Test
+    public void testTruncatedIndex() throws Exception {
+        Path directory = Files.createTempDirectory("weld-index");
+        MockClassFileServices delegate = new MockClassFileServices();
+        Path file = writeIndex(delegate, directory);
+        byte[] content = Files.readAllBytes(file);
+        for (int length = 0; length < content.length; length++) {
+            Files.write(file, Arrays.copyOf(content, length));
+            IndexedClassFileServices services = new IndexedClassFileServices(delegate, directory, ARCHIVE, HASH);
+            Assert.assertFalse(services.isIndexLoaded(), "length " + length);
+            query(services);
+        }
+    }
+
+    @Test
+    public void testCorruptedRecord() throws Exception {
+        Path directory = Files.createTempDirectory("weld-index");
+        MockClassFileServices delegate = new MockClassFileServices();
+        Path file = writeIndex(delegate, directory);
+        byte[] content = Files.readAllBytes(file);
+        // magic, version, archive id, content hash, class count, class name, record length, superclass name, modifiers,
+        // flags
+        int nestingType = 4 + 4 + (4 + ARCHIVE.length()) + (4 + HASH.length()) + 4 + (4 + "com.acme.Foo".length()) + 4
+                + (4 + "com.acme.Bar".length()) + 4 + 1;
+        Assert.assertEquals(content[nestingType], (byte) NestingType.NESTED_STATIC.ordinal());
+        content[nestingType] = 127;
+        Files.write(file, content);
+        IndexedClassFileServices services = new IndexedClassFileServices(delegate, directory, ARCHIVE, HASH);
+        Assert.assertTrue(services.isIndexLoaded());
+        // The corrupted record is ignored and the metadata is obtained from the delegate
+        delegate.invocations.set(0);
+        query(services);
+        Assert.assertTrue(delegate.invocations.get() > 0);
+    }
+
+    @Test
+    public void testCorruptedIndexDoesNotFail() throws Exception {
+        Path directory = Files.createTempDirectory("weld-index");
+        MockClassFileServices delegate = new MockClassFileServices();
+        Path file = writeIndex(delegate, directory);
+        byte[] content = Files.readAllBytes(file);
+        for (int position = 0; position < content.length; position++) {
+            byte[] modified = content.clone();
+            modified[position] = (byte) 0xFF;
+            Files.write(file, modified);
+            IndexedClassFileServices services = new IndexedClassFileServices(delegate, directory, ARCHIVE, HASH);
+            ClassFileInfo info = services.getClassFileInfo("com.acme.Foo");
+            info.getSuperclassName();
+            info.isAssignableTo(Serializable.class);
+            info.containsAnnotation(Deprecated.class);
+            services.cleanupAfterBoot();
+        }
+    }
+
+    private static Path writeIndex(MockClassFileServices delegate, Path directory) {
+        IndexedClassFileServices services = new IndexedClassFileServices(delegate, directory, ARCHIVE, HASH);
+        query(services);
+        services.cleanupAfterBoot();
+        Assert.assertTrue(Files.isRegularFile(services.getIndexFile()));
+        return services.getIndexFile();
+    }
+
+    private static void query(ClassFileServices services) {
+        ClassFileInfo info = services.getClassFileInfo("com.acme.Foo");
+        Assert.assertEquals(info.getClassName(), "com.acme.Foo");
+        Assert.assertEquals(info.getSuperclassName(), "com.acme.Bar");
+        Assert.assertEquals(info.getModifiers(), Modifier.PUBLIC | Modifier.STATIC);
+        Assert.assertTrue(info.hasCdiConstructor());
+        Assert.assertFalse(info.isVetoed());
+        Assert.assertEquals(info.getNestingType(), NestingType.NESTED_STATIC);
+        Assert.assertTrue(info.isAssignableTo(Serializable.class));
+        Assert.assertFalse(info.isAssignableFrom(Serializable.class));
+        Assert.assertTrue(info.containsAnnotation(Deprecated.class));
+        Assert.assertFalse(info.isAnnotationDeclared(Deprecated.class));
+    }
+
+    private static class MockClassFileServices implements ClassFileServices {
+
+        private final AtomicInteger invocations = new AtomicInteger();
+
+        private final Map<String, ClassFileInfo> infos = new HashMap<>();
+
+        MockClassFileServices() {
+            infos.put("com.acme.Foo", new MockClassFileInfo(invocations));
+        }
+
+        @Override
+        public ClassFileInfo getClassFileInfo(String className) {
+            invocations.incrementAndGet();
+            return infos.get(className);
+        }
+
+        @Override
+        public void cleanupAfterBoot() {
+        }
+
+        @Override
+        public void cleanup() {
+        }
+    }
+
+    private static class MockClassFileInfo implements ClassFileInfo {
+
+        private final AtomicInteger invocations;
+
+        MockClassFileInfo(AtomicInteger invocations) {
+            this.invocations = invocations;
+        }
+
+        @Override
+        public String getClassName() {
+            return "com.acme.Foo";
+        }
+
+        @Override
+        public String getSuperclassName() {
+            return "com.acme.Bar";
+        }
+
+        @Override
+        public boolean isAnnotationDeclared(Class<? extends Annotation> annotationType) {
+            invocations.incrementAndGet();
+            return false;
+        }
+
+        @Override
+        public boolean containsAnnotation(Class<? extends Annotation> annotationType) {
+            invocations.incrementAndGet();
+            return annotationType.equals(Deprecated.class);
+        }
+
+        @Override
+        public int getModifiers() {
+            return Modifier.PUBLIC | Modifier.STATIC;
+        }
+
+        @Override
+        public boolean hasCdiConstructor() {
+            return true;
+        }
+
+        @Override
+        public boolean isAssignableFrom(Class<?> javaClass) {
+            invocations.incrementAndGet();
+            return false;
+        }
+
+        @Override
+        public boolean isAssignableTo(Class<?> javaClass) {
+            invocations.incrementAndGet();
+            return javaClass.equals(Serializable.class);
+        }
+
+        @Override
+        public boolean isVetoed() {
+            return false;
+        }
+
+        @Override
+        public NestingType getNestingType() {
+            return NestingType.NESTED_STATIC;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package org.jboss.weld.servlet.spi.test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+import org.jboss.weld.servlet.spi.HttpContextActivationFilter;
+import org.jboss.weld.servlet.spi.helpers.CachingHttpContextActivationFilter;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class CachingHttpContextActivationFilterTest {
+
+    @Test
+    public void testHitsAndMisses() {
+        CountingFilter delegate = new CountingFilter();
+        CachingHttpContextActivationFilter filter = new CachingHttpContextActivationFilter(delegate);
+        Assert.assertTrue(filter.accepts(new MockHttpServletRequest("/app/foo", "/app")));
+        Assert.assertTrue(filter.accepts(new MockHttpServletRequest("/app/foo", "/app")));
+        Assert.assertFalse(filter.accepts(new MockHttpServletRequest("/app/bar", "/app")));
+        Assert.assertFalse(filter.accepts(new MockHttpServletRequest("/app/bar", "/app")));
+        Assert.assertEquals(delegate.invocations.get(), 2);
+        Assert.assertEquals(filter.getMissCount(), 2);
+        Assert.assertEquals(filter.getHitCount(), 2);
+        Assert.assertEquals(filter.getSize(), 2);
+
+        filter.clear();
+        Assert.assertEquals(filter.getSize(), 0);
+        Assert.assertEquals(filter.getHitCount(), 0);
+        Assert.assertTrue(filter.accepts(new MockHttpServletRequest("/app/foo", "/app")));
+        Assert.assertEquals(delegate.invocations.get(), 3);
+    }
+
+    @Test
+    public void testEviction() {
+        CountingFilter delegate = new CountingFilter();
+        CachingHttpContextActivationFilter filter = new CachingHttpContextActivationFilter(delegate, 4);
+        for (int i = 0; i < 100; i++) {
+            filter.accepts(new MockHttpServletRequest("/app/foo" + i, "/app"));
+            Assert.assertTrue(filter.getSize() <= 4, "size: " + filter.getSize());
+        }
+        Assert.assertEquals(delegate.invocations.get(), 100);
+    }
+
+    @Test
+    public void testRecentlyUsedPathSurvivesEviction() {
+        CountingFilter delegate = new CountingFilter();
+        CachingHttpContextActivationFilter filter = new CachingHttpContextActivationFilter(delegate, 4);
+        for (int i = 0; i < 100; i++) {
+            filter.accepts(new MockHttpServletRequest("/app/foo", "/app"));
+            filter.accepts(new MockHttpServletRequest("/app/bar" + i, "/app"));
+        }
+        // The hot path is referenced between two evictions, so it is never evicted
+        Assert.assertEquals(delegate.invocations.get(), 101);
+    }
+
+    @Test
+    public void testDecisionIsStoredInRequest() {
+        CountingFilter delegate = new CountingFilter();
+        CachingHttpContextActivationFilter filter = new CachingHttpContextActivationFilter(delegate, 1);
+        MockHttpServletRequest request = new MockHttpServletRequest("/app/foo", "/app");
+        Assert.assertTrue(filter.accepts(request));
+        Assert.assertTrue(request.getAttributeNames().hasMoreElements());
+        // Evict the path of the request
+        filter.accepts(new MockHttpServletRequest("/app/bar", "/app"));
+        filter.accepts(new MockHttpServletRequest("/app/baz", "/app"));
+        Assert.assertEquals(delegate.invocations.get(), 3);
+        // The decision is taken from the request attribute
+        Assert.assertTrue(filter.accepts(request));
+        Assert.assertEquals(delegate.invocations.get(), 3);
+    }
+
+    @Test
+    public void testCacheHitDoesNotTouchRequestAttributes() {
+        CachingHttpContextActivationFilter filter = new CachingHttpContextActivationFilter(new CountingFilter());
+        filter.accepts(new MockHttpServletRequest("/app/foo", "/app"));
+        MockHttpServletRequest request = new MockHttpServletRequest("/app/foo", "/app");
+        Assert.assertTrue(filter.accepts(request));
+        Assert.assertFalse(request.getAttributeNames().hasMoreElements());
+    }
+
+    @Test
+    public void testCleanup() {
+        CountingFilter delegate = new CountingFilter();
+        CachingHttpContextActivationFilter filter = new CachingHttpContextActivationFilter(delegate);
+        filter.accepts(new MockHttpServletRequest("/app/foo", "/app"));
+        filter.cleanup();
+        Assert.assertEquals(filter.getSize(), 0);
+        Assert.assertTrue(delegate.cleanedUp);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testInvalidMaxSize() {
+        new CachingHttpContextActivationFilter(new CountingFilter(), 0);
+    }
+
+    /**
+     * Accepts the paths starting with /app/foo and counts the invocations.
+     */
+    private static class CountingFilter implements HttpContextActivationFilter {
+
+        private final AtomicInteger invocations = new AtomicInteger();
+
+        private volatile boolean cleanedUp;
+
+        @Override
+        public boolean accepts(HttpServletRequest request) {
+            invocations.incrementAndGet();
+            return request.getRequestURI().startsWith("/app/foo");
+        }
+
+        @Override
+        public void cleanup() {
+            cleanedUp = true;
+        }
+    }
+}
@@ -1,6 +1,9 @@
 package org.jboss.weld.servlet.spi.test;
 
+import java.util.regex.PatternSyntaxException;
+
 import org.jboss.weld.servlet.spi.HttpContextActivationFilter;
+import org.jboss.weld.servlet.spi.helpers.PathPatternHttpContextActivationFilter;
 import org.jboss.weld.servlet.spi.helpers.RegexHttpContextActivationFilter;
 import org.testng.Assert;
 import org.testng.annotations.Test;
@@ -26,4 +29,53 @@ public class HttpContextActivationFilterTest {
         Assert.assertFalse(filter.accepts(new MockHttpServletRequest("/app/foo.jpg", "/app")));
         Assert.assertFalse(filter.accepts(new MockHttpServletRequest("/app/foo/bar/baz.css", "/app")));
     }
+
+    @Test
+    public void testPathPatterns() {
+        HttpContextActivationFilter filter = new PathPatternHttpContextActivationFilter("/rest/*", "/admin/**", "*.jsf",
+                "**/index.html", "/exact", "/files/*/raw/?.txt", "/api/**/items");
+        Assert.assertTrue(filter.accepts(new MockHttpServletRequest("/app/rest", "/app")));
+        Assert.assertTrue(filter.accepts(new MockHttpServletRequest("/app/rest/orders/1", "/app")));
+        Assert.assertFalse(filter.accepts(new MockHttpServletRequest("/app/restful", "/app")));
+        Assert.assertTrue(filter.accepts(new MockHttpServletRequest("/app/admin/users", "/app")));
+        Assert.assertTrue(filter.accepts(new MockHttpServletRequest("/app/foo/bar/baz.jsf", "/app")));
+        Assert.assertFalse(filter.accepts(new MockHttpServletRequest("/app/foo/bar/baz.jsp", "/app")));
+        Assert.assertTrue(filter.accepts(new MockHttpServletRequest("/app/docs/index.html", "/app")));
+        Assert.assertFalse(filter.accepts(new MockHttpServletRequest("/app/docs/myindex.html", "/app")));
+        Assert.assertTrue(filter.accepts(new MockHttpServletRequest("/app/exact", "/app")));
+        Assert.assertFalse(filter.accepts(new MockHttpServletRequest("/app/exact/more", "/app")));
+        Assert.assertTrue(filter.accepts(new MockHttpServletRequest("/app/files/abc/raw/a.txt", "/app")));
+        Assert.assertFalse(filter.accepts(new MockHttpServletRequest("/app/files/a/b/raw/a.txt", "/app")));
+        Assert.assertFalse(filter.accepts(new MockHttpServletRequest("/app/files/abc/raw/ab.txt", "/app")));
+        Assert.assertTrue(filter.accepts(new MockHttpServletRequest("/app/api/items", "/app")));
+        Assert.assertTrue(filter.accepts(new MockHttpServletRequest("/app/api/v1/orders/items", "/app")));
+        Assert.assertFalse(filter.accepts(new MockHttpServletRequest("/app/api/v1/orders", "/app")));
+    }
+
+    @Test
+    public void testPathPatternsWithRegex() {
+        HttpContextActivationFilter filter = new PathPatternHttpContextActivationFilter("/foo/*", "regex:/bar/.*\\.xhtml",
+                "/baz/(a|b)");
+        Assert.assertTrue(filter.accepts(new MockHttpServletRequest("/app/foo/x", "/app")));
+        Assert.assertTrue(filter.accepts(new MockHttpServletRequest("/app/bar/x/y.xhtml", "/app")));
+        Assert.assertTrue(filter.accepts(new MockHttpServletRequest("/app/baz/b", "/app")));
+        Assert.assertFalse(filter.accepts(new MockHttpServletRequest("/app/baz/c", "/app")));
+        Assert.assertFalse(filter.accepts(new MockHttpServletRequest("/app/app/bar/x.xhtml", "/app")));
+    }
+
+    @Test
+    public void testPathPatternRegexesAreCompiledSeparately() {
+        HttpContextActivationFilter filter = new PathPatternHttpContextActivationFilter("regex:/(foo)/.*",
+                "regex:/(\\w+)/\\1\\.jsf");
+        Assert.assertTrue(filter.accepts(new MockHttpServletRequest("/app/foo/x", "/app")));
+        // The back-reference refers to the group of its own regular expression
+        Assert.assertTrue(filter.accepts(new MockHttpServletRequest("/app/bar/bar.jsf", "/app")));
+        Assert.assertFalse(filter.accepts(new MockHttpServletRequest("/app/bar/foo.jsf", "/app")));
+    }
+
+    @Test(expectedExceptions = PatternSyntaxException.class)
+    public void testUnbalancedPathPatternRegex() {
+        // Merged with another regular expression, the parentheses would balance out and match every path below /admin
+        new PathPatternHttpContextActivationFilter("regex:/foo", "regex:/bar)|(/admin/.*");
+    }
 }
@@ -5,7 +5,9 @@ import java.io.IOException;
 import java.io.UnsupportedEncodingException;
 import java.security.Principal;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Enumeration;
+import java.util.HashMap;
 import java.util.Locale;
 import java.util.Map;
 
@@ -29,6 +31,7 @@ public class MockHttpServletRequest implements HttpServletRequest {
 
     private final String requestUri;
     private final String contextPath;
+    private final Map<String, Object> attributes = new HashMap<String, Object>();
 
     public MockHttpServletRequest(String requestUri, String contextPath) {
         this.requestUri = requestUri;
@@ -47,12 +50,12 @@ public class MockHttpServletRequest implements HttpServletRequest {
 
     @Override
     public Object getAttribute(String name) {
-        throw new UnsupportedOperationException();
+        return attributes.get(name);
     }
 
     @Override
     public Enumeration getAttributeNames() {
-        throw new UnsupportedOperationException();
+        return Collections.enumeration(attributes.keySet());
     }
 
     @Override
@@ -137,12 +140,12 @@ public class MockHttpServletRequest implements HttpServletRequest {
 
     @Override
     public void setAttribute(String name, Object o) {
-        throw new UnsupportedOperationException();
+        attributes.put(name, o);
     }
 
     @Override
     public void removeAttribute(String name) {
-        throw new UnsupportedOperationException();
+        attributes.remove(name);
     }
 
     @Override
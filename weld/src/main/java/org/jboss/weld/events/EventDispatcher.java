@@ -0,0 +1,114 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.events;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+
+import jakarta.enterprise.event.NotificationOptions;
+import jakarta.enterprise.inject.spi.ObserverMethod;
+
+/**
+ * An immutable handle which fires events of a single type with a single set of qualifiers. Unlike {@link WeldEvent}, firing an
+ * event does not resolve the observer methods each time, so firing many events through the same dispatcher avoids the
+ * repeated resolution.
+ * <p>
+ * Just like {@link jakarta.enterprise.event.Event#fire(Object)}, the observer methods are resolved for the runtime type of an
+ * event object and the qualifiers of the {@link WeldEvent} the dispatcher was obtained from. Therefore, an observer method
+ * which observes a subtype of the required type is notified if the event object is an instance of that subtype. The
+ * dispatcher caches the resolved observer methods per runtime class of the event objects, i.e. the observer methods are only
+ * resolved the first time an event object of a given class is fired.
+ * </p>
+ * <p>
+ * Dispatchers are thread-safe and may be cached, e.g. in a field of a bean. A dispatcher remains valid for the lifetime of the
+ * container; should the set of observer methods of the container change, the implementation resolves the observer methods
+ * again.
+ * </p>
+ *
+ * @param <T> the type of the event
+ * @see WeldEvent#dispatcher()
+ * @since 7.0
+ */
+public interface EventDispatcher<T> {
+
+    /**
+     * Fires an event to the synchronous and transactional observer methods resolved for the runtime class of the event object,
+     * in the same way as {@link jakarta.enterprise.event.Event#fire(Object)}.
+     *
+     * @param event the event object
+     */
+    void fire(T event);
+
+    /**
+     * Fires the given events to the synchronous and transactional observer methods resolved for the runtime class of each
+     * event object, in the iteration order of the collection. If an observer method throws an exception, the exception is
+     * rethrown and the remaining events are not fired.
+     * <p>
+     * The default implementation invokes {@link #fire(Object)} for each event.
+     * </p>
+     *
+     * @param events the event objects
+     * @see WeldEvent#fireAll(Collection)
+     */
+    default void fireAll(Collection<? extends T> events) {
+        for (T event : events) {
+            fire(event);
+        }
+    }
+
+    /**
+     * Fires an event to the asynchronous observer methods resolved for the runtime class of the event object, in the same way
+     * as {@link jakarta.enterprise.event.Event#fireAsync(Object)}.
+     *
+     * @param <U> the event type
+     * @param event the event object
+     * @return a completion stage which is completed once all the asynchronous observer methods are notified
+     */
+    <U extends T> CompletionStage<U> fireAsync(U event);
+
+    /**
+     * Fires an event to the asynchronous observer methods resolved for the runtime class of the event object with the given
+     * notification options, in the same way as {@link jakarta.enterprise.event.Event#fireAsync(Object, NotificationOptions)}.
+     *
+     * @param <U> the event type
+     * @param event the event object
+     * @param options the notification options
+     * @return a completion stage which is completed once all the asynchronous observer methods are notified
+     */
+    <U extends T> CompletionStage<U> fireAsync(U event, NotificationOptions options);
+
+    /**
+     * The observer methods resolved for the required type. An event object of a subtype of the required type may in addition
+     * notify the observer methods of that subtype.
+     *
+     * @return the immutable list of the observer methods resolved for the required type, in the order in which they are
+     *         notified
+     */
+    List<ObserverMethod<? super T>> getObserverMethods();
+
+    /**
+     * Allows a producer to skip creating event objects nobody observes. Only the observer methods resolved for the required
+     * type are considered, see {@link #getObserverMethods()}.
+     *
+     * @return {@code true} if there is at least one observer method resolved for the required type, {@code false} otherwise
+     */
+    default boolean hasObserverMethods() {
+        return !getObserverMethods().isEmpty();
+    }
+
+}
@@ -0,0 +1,56 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2026, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.events;
+
+import jakarta.enterprise.inject.spi.ObserverMethod;
+
+/**
+ * The completion of the notification of a single asynchronous observer method.
+ *
+ * @param <T> the type of the event
+ * @see WeldEvent#fireAsyncObservable(Object, jakarta.enterprise.event.NotificationOptions)
+ * @since 7.0
+ */
+public interface ObserverCompletion<T> {
+
+    /**
+     *
+     * @return the notified observer method
+     */
+    ObserverMethod<? super T> getObserverMethod();
+
+    /**
+     *
+     * @return the event payload
+     */
+    T getEvent();
+
+    /**
+     *
+     * @return the exception thrown by the observer method or {@code null} if the observer method completed normally
+     */
+    Throwable getFailure();
+
+    /**
+     *
+     * @return {@code true} if the observer method completed normally, {@code false} otherwise
+     */
+    default boolean isSuccessful() {
+        return getFailure() == null;
+    }
+
+}
@@ -18,8 +18,13 @@ package org.jboss.weld.events;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
 
 import jakarta.enterprise.event.Event;
+import jakarta.enterprise.event.NotificationOptions;
 import jakarta.enterprise.util.TypeLiteral;
 
 /**
@@ -54,4 +59,139 @@ public interface WeldEvent<T> extends Event<T> {
 
     @Override
     public <U extends T> WeldEvent<U> select(TypeLiteral<U> subtype, Annotation... qualifiers);
+
+    /**
+     * <p>
+     * Fires the given events to the synchronous and transactional observer methods, in the iteration order of the collection.
+     * The effect is the same as invoking {@link #fire(Object)} for each event, but the implementation resolves the observer
+     * methods only once for all the events of the same runtime type and may set up the notification, e.g. activate contexts,
+     * only once for all the events.
+     * </p>
+     * <p>
+     * If an observer method throws an exception, the exception is rethrown and the remaining events are not fired.
+     * </p>
+     * <p>
+     * The default implementation invokes {@link #fire(Object)} for each event.
+     * </p>
+     *
+     * @param events the event objects
+     * @throws IllegalArgumentException if the runtime type of an event object contains a type variable
+     * @since 7.0
+     */
+    default void fireAll(Collection<? extends T> events) {
+        for (T event : events) {
+            fire(event);
+        }
+    }
+
+    /**
+     * Fires the given events to the asynchronous observer methods, like {@link #fireAllAsync(Collection, NotificationOptions)}
+     * with no notification options.
+     *
+     * @param <U> the event type
+     * @param events the event objects
+     * @return a completion stage which is completed with the event objects once all the observer methods are notified of all
+     *         the events
+     * @since 7.0
+     */
+    default <U extends T> CompletionStage<List<U>> fireAllAsync(Collection<U> events) {
+        return fireAllAsync(events, null);
+    }
+
+    /**
+     * <p>
+     * Fires the given events to the asynchronous observer methods with the given notification options. The effect is the same
+     * as invoking {@link #fireAsync(Object, NotificationOptions)} for each event, but the implementation resolves the observer
+     * methods only once for all the events of the same runtime type and submits fewer tasks to the executor.
+     * </p>
+     * <p>
+     * By default, i.e. in the {@link WeldNotificationOptions.NotificationMode#SERIAL} mode, the observer methods are notified
+     * of the events in the iteration order of the collection. In the {@link WeldNotificationOptions.NotificationMode#PARALLEL}
+     * mode, the events may be split into chunks which are delivered in parallel; within a chunk, the events are delivered in
+     * order.
+     * </p>
+     * <p>
+     * Unlike {@link #fireAll(Collection)}, an exception thrown by an observer method does not prevent the delivery of the
+     * remaining events. The returned completion stage is completed exceptionally with a
+     * {@link java.util.concurrent.CompletionException} if any observer method throws an exception; the exceptions are added as
+     * suppressed exceptions.
+     * </p>
+     *
+     * @param <U> the event type
+     * @param events the event objects
+     * @param options the notification options, may be {@code null}
+     * @return a completion stage which is completed with the event objects once all the observer methods are notified of all
+     *         the events
+     * @throws IllegalArgumentException if the runtime type of an event object contains a type variable
+     * @since 7.0
+     */
+    default <U extends T> CompletionStage<List<U>> fireAllAsync(Collection<U> events, NotificationOptions options) {
+        throw new UnsupportedOperationException("fireAllAsync() is not implemented for event " + this.getClass());
+    }
+
+    /**
+     * <p>
+     * Obtains an {@link EventDispatcher} for the required type and qualifiers of this {@code Event}. The dispatcher resolves
+     * the observer methods for the runtime class of an event object once and caches them, so that firing further events of
+     * the same class through the dispatcher does not repeat the resolution. Implementations may return the same dispatcher
+     * for the same required type and qualifiers.
+     * </p>
+     * <p>
+     * Should be invoked once per required type and qualifiers, with the result cached by the caller, e.g. in a field of a
+     * bean.
+     * </p>
+     *
+     * @return the dispatcher
+     * @throws IllegalStateException if the required type of this {@code Event} contains a type variable
+     * @since 7.0
+     */
+    default EventDispatcher<T> dispatcher() {
+        throw new UnsupportedOperationException("dispatcher() is not implemented for event " + this.getClass());
+    }
+
+    /**
+     * Fires an event asynchronously, like {@link #fireAsync(Object)}, and returns a {@link Flow.Publisher} which emits the
+     * completion of each notified asynchronous observer method as soon as it happens.
+     *
+     * @param <U> the event type
+     * @param event the event object
+     * @return a publisher of the observer method completions
+     * @see #fireAsyncObservable(Object, NotificationOptions)
+     * @since 7.0
+     */
+    default <U extends T> Flow.Publisher<ObserverCompletion<U>> fireAsyncObservable(U event) {
+        return fireAsyncObservable(event, null);
+    }
+
+    /**
+     * <p>
+     * Fires an event asynchronously with the given notification options, like
+     * {@link #fireAsync(Object, NotificationOptions)}, and returns a {@link Flow.Publisher} which emits the completion of each
+     * notified asynchronous observer method as soon as it happens, instead of a completion stage which is only completed once
+     * all the observer methods are notified.
+     * </p>
+     * <p>
+     * The event is fired when a subscriber subscribes to the returned publisher. The publisher accepts a single subscriber;
+     * any further subscriber is signalled {@link Flow.Subscriber#onError(Throwable)} with an {@link IllegalStateException}.
+     * The completions are emitted in the order in which the observer methods complete and are buffered until requested by
+     * the subscriber. An exception thrown by an observer method is emitted as {@link ObserverCompletion#getFailure()} and does
+     * not terminate the stream. {@link Flow.Subscriber#onComplete()} is signalled once all the observer methods are notified,
+     * {@link Flow.Subscriber#onError(Throwable)} is signalled if the notification itself fails, e.g. if the
+     * {@link WeldNotificationOptions#TIMEOUT} expires.
+     * </p>
+     * <p>
+     * If the subscription is cancelled, the observer methods whose notification has not started yet are not notified. The
+     * observer methods which are being notified are not interrupted.
+     * </p>
+     *
+     * @param <U> the event type
+     * @param event the event object
+     * @param options the notification options, may be {@code null}
+     * @return a publisher of the observer method completions
+     * @throws IllegalArgumentException if the runtime type of the event object contains a type variable
+     * @since 7.0
+     */
+    default <U extends T> Flow.Publisher<ObserverCompletion<U>> fireAsyncObservable(U event, NotificationOptions options) {
+        throw new UnsupportedOperationException("fireAsyncObservable() is not implemented for event " + this.getClass());
+    }
 }
@@ -26,6 +26,11 @@ import jakarta.enterprise.event.NotificationOptions;
  * <ul>
  * <li>{@link #MODE}</li>
  * <li>{@link #TIMEOUT}</li>
+ * <li>{@link #BATCH_SIZE}</li>
+ * <li>{@link #BATCH_LINGER}</li>
+ * <li>{@link #MAX_IN_FLIGHT}</li>
+ * <li>{@link #OVERFLOW_POLICY}</li>
+ * <li>{@link #LANE}</li>
  * </ul>
  *
  * @author Martin Kouba
@@ -35,7 +40,7 @@ import jakarta.enterprise.event.NotificationOptions;
 public interface WeldNotificationOptions extends NotificationOptions {
 
     /**
-     * Makes it possible to specify that observer methods should be notified in parallel (if supported).
+     * Makes it possible to specify that observer methods should be notified in parallel or in batches (if supported).
      *
      * @see NotificationMode
      */
@@ -52,6 +57,65 @@ public interface WeldNotificationOptions extends NotificationOptions {
      */
     String TIMEOUT = "weld.async.notification.timeout";
 
+    /**
+     * Makes it possible to specify the maximum number of events coalesced into a single batch if {@link #MODE} is set to
+     * {@link NotificationMode#BATCHED}. The value is a positive integer.
+     * <p>
+     * If not set, the implementation chooses a default batch size.
+     * </p>
+     *
+     * @since 7.0
+     */
+    String BATCH_SIZE = "weld.async.notification.batch.size";
+
+    /**
+     * Makes it possible to specify the maximum time (in milliseconds) the first event of a batch may wait for further events
+     * if {@link #MODE} is set to {@link NotificationMode#BATCHED}. A batch is dispatched as soon as it is full or the linger
+     * time expires, whichever comes first. The value is a non-negative long; zero means that a batch only contains the events
+     * fired while no batch for the same observers was yet dispatched.
+     * <p>
+     * If not set, the implementation chooses a default linger time.
+     * </p>
+     *
+     * @since 7.0
+     */
+    String BATCH_LINGER = "weld.async.notification.batch.linger";
+
+    /**
+     * Makes it possible to limit the number of pending asynchronous notifications, i.e. notifications submitted to the
+     * {@link java.util.concurrent.Executor} which have not completed yet. The value is a positive integer. The limit is
+     * shared by all notifications fired with the same limit to the same {@link java.util.concurrent.Executor}.
+     * <p>
+     * If the limit is reached, the {@link #OVERFLOW_POLICY} is applied. If not set, the number of pending notifications is
+     * not limited.
+     * </p>
+     *
+     * @since 7.0
+     */
+    String MAX_IN_FLIGHT = "weld.async.notification.max.in.flight";
+
+    /**
+     * Makes it possible to specify what happens if an event is fired asynchronously and the {@link #MAX_IN_FLIGHT} limit is
+     * reached. Has no effect if {@link #MAX_IN_FLIGHT} is not set.
+     *
+     * @see OverflowPolicy
+     * @since 7.0
+     */
+    String OVERFLOW_POLICY = "weld.async.notification.overflow.policy";
+
+    /**
+     * Makes it possible to specify the delivery lane of an asynchronous notification. The value is the name of the lane. The
+     * observers are notified using the executor returned from
+     * {@code org.jboss.weld.manager.api.ExecutorServices.getTaskExecutor(String)} for the given lane, so that integrators may
+     * schedule the lanes separately.
+     * <p>
+     * The option is ignored if an executor is set via {@link NotificationOptions#getExecutor()}.
+     * </p>
+     *
+     * @since 7.0
+     */
+    String LANE = "weld.async.notification.lane";
+
     /**
      *
      * @return notification options with {@value #MODE} set to {@link NotificationMode#PARALLEL}
@@ -69,6 +133,67 @@ public interface WeldNotificationOptions extends NotificationOptions {
         return NotificationOptions.builder().set(TIMEOUT, timeout).build();
     }
 
+    /**
+     *
+     * @return notification options with {@value #MODE} set to {@link NotificationMode#BATCHED}
+     * @since 7.0
+     */
+    static NotificationOptions withBatchedMode() {
+        return NotificationOptions.builder().set(MODE, NotificationMode.BATCHED).build();
+    }
+
+    /**
+     *
+     * @param maxBatchSize The maximum number of events in a batch
+     * @param maxLinger The maximum linger time in milliseconds
+     * @return notification options with {@value #MODE} set to {@link NotificationMode#BATCHED} and {@value #BATCH_SIZE} and
+     *         {@value #BATCH_LINGER} set
+     * @throws IllegalArgumentException if the batch size is not positive or the linger time is negative
+     * @since 7.0
+     */
+    static NotificationOptions withBatchedMode(int maxBatchSize, long maxLinger) {
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be positive: " + maxBatchSize);
+        }
+        if (maxLinger < 0) {
+            throw new IllegalArgumentException("Linger time must not be negative: " + maxLinger);
+        }
+        return NotificationOptions.builder().set(MODE, NotificationMode.BATCHED).set(BATCH_SIZE, maxBatchSize)
+                .set(BATCH_LINGER, maxLinger).build();
+    }
+
+    /**
+     *
+     * @param maxInFlight The maximum number of pending notifications
+     * @param policy The policy applied if the limit is reached
+     * @return notification options with {@value #MAX_IN_FLIGHT} and {@value #OVERFLOW_POLICY} set
+     * @throws IllegalArgumentException if the limit is not positive or the policy is {@code null}
+     * @since 7.0
+     */
+    static NotificationOptions withMaxInFlight(int maxInFlight, OverflowPolicy policy) {
+        if (maxInFlight < 1) {
+            throw new IllegalArgumentException("Maximum number of pending notifications must be positive: " + maxInFlight);
+        }
+        if (policy == null) {
+            throw new IllegalArgumentException("Overflow policy must not be null");
+        }
+        return NotificationOptions.builder().set(MAX_IN_FLIGHT, maxInFlight).set(OVERFLOW_POLICY, policy).build();
+    }
+
+    /**
+     *
+     * @param lane The name of the delivery lane
+     * @return notification options with {@value #LANE} set
+     * @throws IllegalArgumentException if the lane is {@code null}
+     * @since 7.0
+     */
+    static NotificationOptions withLane(String lane) {
+        if (lane == null) {
+            throw new IllegalArgumentException("Lane must not be null");
+        }
+        return NotificationOptions.builder().set(LANE, lane).build();
+    }
+
     /**
      *
      * @see WeldNotificationOptions#MODE
@@ -83,7 +208,18 @@ public interface WeldNotificationOptions extends NotificationOptions {
          * Async observers are notified in parallel assuming that the {@link java.util.concurrent.Executor} used supports
          * parallel execution.
          */
-        PARALLEL,;
+        PARALLEL,
+        /**
+         * Events fired asynchronously to the same set of observers are coalesced and the observers are notified of all the
+         * events of a batch in a single task submitted to the {@link java.util.concurrent.Executor}. Within a batch, the
+         * events are delivered serially in the order in which they were fired. The completion stage returned for each event
+         * is completed once all observers were notified of that event.
+         *
+         * @see WeldNotificationOptions#BATCH_SIZE
+         * @see WeldNotificationOptions#BATCH_LINGER
+         * @since 7.0
+         */
+        BATCHED,;
 
         /**
          * Determines if this {@link NotificationMode} enum is equal to the provided parameter.
@@ -119,4 +255,69 @@ public interface WeldNotificationOptions extends NotificationOptions {
 
     }
 
+    /**
+     *
+     * @see WeldNotificationOptions#OVERFLOW_POLICY
+     * @since 7.0
+     */
+    enum OverflowPolicy {
+
+        /**
+         * The thread firing the event is blocked until the number of pending notifications drops below the limit (default
+         * behavior).
+         */
+        BLOCK,
+        /**
+         * The event is not delivered and the returned completion stage is completed exceptionally with a
+         * {@link java.util.concurrent.CompletionException} holding a {@link java.util.concurrent.RejectedExecutionException}
+         * as its cause.
+         */
+        FAIL,
+        /**
+         * The oldest pending notification whose observers were not notified yet is discarded to make room for the new event.
+         * The completion stage of the discarded notification is completed exceptionally with a
+         * {@link java.util.concurrent.CompletionException} holding a {@link java.util.concurrent.CancellationException} as
+         * its cause. If no such notification exists, the thread firing the event is blocked as with {@link #BLOCK}.
+         */
+        DROP_OLDEST,
+        /**
+         * The observers are notified synchronously in the thread firing the event. The returned completion stage is completed
+         * before {@code fireAsync()} returns.
+         */
+        CALLER_RUNS,;
+
+        /**
+         * Determines if this {@link OverflowPolicy} enum is equal to the provided parameter.
+         *
+         * @param value object to compare to {@code this}
+         * @return true if there is equality, false otherwise
+         */
+        public boolean isEqual(Object value) {
+            return equals(of(value));
+        }
+
+        /**
+         * Attempts to convert provided parameter into {@link OverflowPolicy}.
+         * May return {@code null} if the provided parameter is {@code null} or if there was an exception.
+         * If the provided parameter is an instance of {@link OverflowPolicy} a type cast is executed; otherwise
+         * {@link Enum#valueOf(Class, String)} is used for conversion.
+         *
+         * @param value object for conversion to {@link OverflowPolicy}
+         * @return instance of {@link OverflowPolicy} or null
+         */
+        public static OverflowPolicy of(Object value) {
+            if (value != null) {
+                if (value instanceof OverflowPolicy) {
+                    return (OverflowPolicy) value;
+                }
+                try {
+                    return valueOf(value.toString().toUpperCase());
+                } catch (IllegalArgumentException ignored) {
+                }
+            }
+            return null;
+        }
+
+    }
+
 }